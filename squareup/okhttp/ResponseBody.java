@@ -24,16 +24,21 @@ public abstract class ResponseBody implements Closeable {
     }
 
     public final byte[] bytes() throws IOException {
+        return buffer().readByteArray();
+    }
+
+    public final Buffer buffer() throws IOException {
         long contentLength = contentLength();
         if (contentLength > 2147483647L) {
             throw new IOException("Cannot buffer entire body for content length: " + contentLength);
         }
         BufferedSource source = source();
         try {
-            byte[] readByteArray = source.readByteArray();
+            Buffer buffer = new Buffer();
+            buffer.writeAll(source);
             Util.closeQuietly(source);
-            if (contentLength == -1 || contentLength == readByteArray.length) {
-                return readByteArray;
+            if (contentLength == -1 || contentLength == buffer.size()) {
+                return buffer;
             }
             throw new IOException("Content-Length and stream length disagree");
         } catch (Throwable th) {
@@ -0,0 +1,325 @@
+package com.squareup.okhttp.internal.framed;
+
+import com.squareup.okhttp.internal.Util;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import okio.Buffer;
+/* loaded from: classes.dex */
+public final class CoalescingFrameWriter implements FrameWriter, PriorityFrameWriter {
+    static final long DEFAULT_FLUSH_DELAY_NANOS = 1000000;
+    static final int DEFAULT_FLUSH_THRESHOLD = 16384;
+    private static final int FRAME_HEADER_LENGTH = 9;
+    private static final ScheduledExecutorService FLUSHER;
+    private static final long MAX_WINDOW_INCREMENT = 2147483647L;
+    private static final int WINDOW_UPDATE_LENGTH = 13;
+    private boolean closed;
+    private IOException deferredException;
+    private final Runnable deferredFlush;
+    private final FrameWriter delegate;
+    private final long flushDelayNanos;
+    private final Executor flushExecutor;
+    private final int flushThreshold;
+    private long pendingBytes;
+    private final Map<Integer, Long> pendingWindowUpdates;
+    private ExecutorService ownedFlushExecutor;
+    private ScheduledFuture<?> scheduledFlush;
+
+    static {
+        ScheduledThreadPoolExecutor scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1, Util.threadFactory("OkHttp FrameWriter Flusher", true));
+        scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
+        FLUSHER = scheduledThreadPoolExecutor;
+    }
+
+    public CoalescingFrameWriter(FrameWriter frameWriter) {
+        this(frameWriter, DEFAULT_FLUSH_THRESHOLD, DEFAULT_FLUSH_DELAY_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    public CoalescingFrameWriter(FrameWriter frameWriter, int i, long j, TimeUnit timeUnit) {
+        this(frameWriter, i, j, timeUnit, null);
+    }
+
+    public CoalescingFrameWriter(FrameWriter frameWriter, int i, long j, TimeUnit timeUnit, Executor executor) {
+        this.pendingWindowUpdates = new LinkedHashMap();
+        this.deferredFlush = new Runnable() { // from class: com.squareup.okhttp.internal.framed.CoalescingFrameWriter.1
+            @Override // java.lang.Runnable
+            public void run() {
+                CoalescingFrameWriter.this.deadlineReached();
+            }
+        };
+        if (frameWriter == null) {
+            throw new IllegalArgumentException("frameWriter == null");
+        }
+        if (i <= 0) {
+            throw new IllegalArgumentException("flushThreshold <= 0: " + i);
+        }
+        if (j < 0) {
+            throw new IllegalArgumentException("flushDelay < 0: " + j);
+        }
+        this.delegate = frameWriter;
+        this.flushThreshold = i;
+        this.flushDelayNanos = timeUnit.toNanos(j);
+        if (executor == null) {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue(), Util.threadFactory("OkHttp FrameWriter Flush", true));
+            this.ownedFlushExecutor = threadPoolExecutor;
+            executor = threadPoolExecutor;
+        }
+        this.flushExecutor = executor;
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void connectionPreface() throws IOException {
+        checkNotClosed();
+        this.delegate.connectionPreface();
+        flushNow();
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void ackSettings(Settings settings) throws IOException {
+        checkNotClosed();
+        this.delegate.ackSettings(settings);
+        flushNow();
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void pushPromise(int i, int i2, List<Header> list) throws IOException {
+        checkNotClosed();
+        this.delegate.pushPromise(i, i2, list);
+        this.pendingBytes += 13;
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void synStream(boolean z, boolean z2, int i, int i2, List<Header> list) throws IOException {
+        checkNotClosed();
+        this.delegate.synStream(z, z2, i, i2, list);
+        this.pendingBytes += 9;
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void synReply(boolean z, int i, List<Header> list) throws IOException {
+        checkNotClosed();
+        this.delegate.synReply(z, i, list);
+        this.pendingBytes += 9;
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void headers(int i, List<Header> list) throws IOException {
+        checkNotClosed();
+        this.delegate.headers(i, list);
+        this.pendingBytes += 9;
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void rstStream(int i, ErrorCode errorCode) throws IOException {
+        checkNotClosed();
+        this.pendingWindowUpdates.remove(Integer.valueOf(i));
+        this.delegate.rstStream(i, errorCode);
+        flushNow();
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public int maxDataLength() {
+        return this.delegate.maxDataLength();
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void data(boolean z, int i, Buffer buffer, int i2) throws IOException {
+        checkNotClosed();
+        this.delegate.data(z, i, buffer, i2);
+        this.pendingBytes += i2 + 9;
+        if (this.pendingBytes >= this.flushThreshold) {
+            flushNow();
+        }
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void settings(Settings settings) throws IOException {
+        checkNotClosed();
+        this.delegate.settings(settings);
+        flushNow();
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void ping(boolean z, int i, int i2) throws IOException {
+        checkNotClosed();
+        this.delegate.ping(z, i, i2);
+        flushNow();
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.PriorityFrameWriter
+    public synchronized void priority(int i, int i2, int i3, boolean z) throws IOException {
+        checkNotClosed();
+        FrameWriter frameWriter = this.delegate;
+        if (frameWriter instanceof PriorityFrameWriter) {
+            ((PriorityFrameWriter) frameWriter).priority(i, i2, i3, z);
+            this.pendingBytes += 14;
+        }
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void goAway(int i, ErrorCode errorCode, byte[] bArr) throws IOException {
+        checkNotClosed();
+        this.delegate.goAway(i, errorCode, bArr);
+        flushNow();
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void windowUpdate(int i, long j) throws IOException {
+        checkNotClosed();
+        if (j == 0 || j > MAX_WINDOW_INCREMENT) {
+            this.delegate.windowUpdate(i, j);
+            return;
+        }
+        Integer valueOf = Integer.valueOf(i);
+        Long l = this.pendingWindowUpdates.get(valueOf);
+        if (l == null) {
+            this.pendingWindowUpdates.put(valueOf, Long.valueOf(j));
+            this.pendingBytes += 13;
+        } else if (l.longValue() + j > MAX_WINDOW_INCREMENT) {
+            this.delegate.windowUpdate(i, l.longValue());
+            this.pendingWindowUpdates.put(valueOf, Long.valueOf(j));
+        } else {
+            this.pendingWindowUpdates.put(valueOf, Long.valueOf(l.longValue() + j));
+        }
+        if (this.pendingBytes >= this.flushThreshold) {
+            flushNow();
+        } else {
+            scheduleFlush();
+        }
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.FrameWriter
+    public synchronized void flush() throws IOException {
+        checkNotClosed();
+        if (this.pendingBytes >= this.flushThreshold || this.flushDelayNanos == 0) {
+            flushNow();
+        } else {
+            scheduleFlush();
+        }
+    }
+
+    public synchronized void readerBlocked() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        checkNotClosed();
+        if (this.pendingBytes > 0 || !this.pendingWindowUpdates.isEmpty()) {
+            flushNow();
+        }
+    }
+
+    @Override // java.io.Closeable, java.lang.AutoCloseable
+    public synchronized void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        cancelScheduledFlush();
+        shutdownFlushExecutor();
+        try {
+            writePendingWindowUpdates();
+            this.delegate.flush();
+        } catch (IOException e) {
+        }
+        this.delegate.close();
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public void deadlineReached() {
+        try {
+            this.flushExecutor.execute(new Runnable() { // from class: com.squareup.okhttp.internal.framed.CoalescingFrameWriter.2
+                @Override // java.lang.Runnable
+                public void run() {
+                    CoalescingFrameWriter.this.flushDeferred();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                this.scheduledFlush = null;
+            }
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public synchronized void flushDeferred() {
+        this.scheduledFlush = null;
+        if (this.closed || this.deferredException != null) {
+            return;
+        }
+        try {
+            flushNow();
+        } catch (IOException e) {
+            this.deferredException = e;
+            this.closed = true;
+            shutdownFlushExecutor();
+            Util.closeQuietly(this.delegate);
+        }
+    }
+
+    private void shutdownFlushExecutor() {
+        ExecutorService executorService = this.ownedFlushExecutor;
+        if (executorService != null) {
+            this.ownedFlushExecutor = null;
+            executorService.shutdown();
+        }
+    }
+
+    private void checkNotClosed() throws IOException {
+        IOException iOException = this.deferredException;
+        if (iOException != null) {
+            this.deferredException = null;
+            throw iOException;
+        }
+        if (this.closed) {
+            throw new IOException("closed");
+        }
+    }
+
+    private void scheduleFlush() {
+        if (this.scheduledFlush == null) {
+            this.scheduledFlush = FLUSHER.schedule(this.deferredFlush, this.flushDelayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void cancelScheduledFlush() {
+        ScheduledFuture<?> scheduledFuture = this.scheduledFlush;
+        if (scheduledFuture != null) {
+            this.scheduledFlush = null;
+            scheduledFuture.cancel(false);
+        }
+    }
+
+    private void flushNow() throws IOException {
+        cancelScheduledFlush();
+        writePendingWindowUpdates();
+        this.pendingBytes = 0L;
+        this.delegate.flush();
+    }
+
+    private void writePendingWindowUpdates() throws IOException {
+        if (this.pendingWindowUpdates.isEmpty()) {
+            return;
+        }
+        Long l = this.pendingWindowUpdates.remove(0);
+        if (l != null) {
+            this.delegate.windowUpdate(0, l.longValue());
+        }
+        Iterator<Map.Entry<Integer, Long>> it = this.pendingWindowUpdates.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Long> next = it.next();
+            this.delegate.windowUpdate(next.getKey().intValue(), next.getValue().longValue());
+            it.remove();
+        }
+    }
+}
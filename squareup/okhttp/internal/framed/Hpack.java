@@ -3,10 +3,7 @@ package com.squareup.okhttp.internal.framed;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import kotlin.UByte;
 import munirkhanani.dbmodel.DbContract;
 import okio.Buffer;
@@ -22,84 +19,114 @@ public final class Hpack {
     private static final int PREFIX_6_BITS = 63;
     private static final int PREFIX_7_BITS = 127;
     private static final Header[] STATIC_HEADER_TABLE = {new Header(Header.TARGET_AUTHORITY, ""), new Header(Header.TARGET_METHOD, "GET"), new Header(Header.TARGET_METHOD, "POST"), new Header(Header.TARGET_PATH, "/"), new Header(Header.TARGET_PATH, "/index.html"), new Header(Header.TARGET_SCHEME, "http"), new Header(Header.TARGET_SCHEME, "https"), new Header(Header.RESPONSE_STATUS, "200"), new Header(Header.RESPONSE_STATUS, "204"), new Header(Header.RESPONSE_STATUS, "206"), new Header(Header.RESPONSE_STATUS, "304"), new Header(Header.RESPONSE_STATUS, "400"), new Header(Header.RESPONSE_STATUS, "404"), new Header(Header.RESPONSE_STATUS, "500"), new Header("accept-charset", ""), new Header("accept-encoding", "gzip, deflate"), new Header("accept-language", ""), new Header("accept-ranges", ""), new Header("accept", ""), new Header("access-control-allow-origin", ""), new Header("age", ""), new Header("allow", ""), new Header("authorization", ""), new Header("cache-control", ""), new Header("content-disposition", ""), new Header("content-encoding", ""), new Header("content-language", ""), new Header("content-length", ""), new Header("content-location", ""), new Header("content-range", ""), new Header("content-type", ""), new Header("cookie", ""), new Header(DbContract.dateServer.Date, ""), new Header("etag", ""), new Header("expect", ""), new Header("expires", ""), new Header("from", ""), new Header("host", ""), new Header("if-match", ""), new Header("if-modified-since", ""), new Header("if-none-match", ""), new Header("if-range", ""), new Header("if-unmodified-since", ""), new Header("last-modified", ""), new Header("link", ""), new Header("location", ""), new Header("max-forwards", ""), new Header("proxy-authenticate", ""), new Header("proxy-authorization", ""), new Header("range", ""), new Header("referer", ""), new Header("refresh", ""), new Header("retry-after", ""), new Header("server", ""), new Header("set-cookie", ""), new Header("strict-transport-security", ""), new Header("transfer-encoding", ""), new Header("user-agent", ""), new Header("vary", ""), new Header("via", ""), new Header("www-authenticate", "")};
-    private static final Map<ByteString, Integer> NAME_TO_FIRST_INDEX = nameToFirstIndex();
+    private static final int STATIC_NAME_MASK = 127;
+    private static final int[] STATIC_NAME_SLOTS = staticNameSlots();
 
     private Hpack() {
     }
 
     /* loaded from: classes.dex */
-    static final class Reader {
-        Header[] dynamicTable;
-        private int headerTableSizeSetting;
-        private int maxDynamicTableByteCount;
+    static final class DynamicTable {
+        int byteCount;
+        int headerCount;
+        Header[] headers = new Header[8];
+        int maxByteCount;
         int nextHeaderIndex;
-        private final BufferedSource source;
-        private final List<Header> headerList = new ArrayList();
-        int headerCount = 0;
-        int dynamicTableByteCount = 0;
 
-        /* JADX INFO: Access modifiers changed from: package-private */
-        public Reader(int i, Source source) {
-            Header[] headerArr = new Header[8];
-            this.dynamicTable = headerArr;
-            this.nextHeaderIndex = headerArr.length - 1;
-            this.headerTableSizeSetting = i;
-            this.maxDynamicTableByteCount = i;
-            this.source = Okio.buffer(source);
+        DynamicTable(int i) {
+            this.maxByteCount = i;
         }
 
-        int maxDynamicTableByteCount() {
-            return this.maxDynamicTableByteCount;
+        Header get(int i) {
+            return this.headers[((this.nextHeaderIndex - 1) - i) & (this.headers.length - 1)];
         }
 
-        /* JADX INFO: Access modifiers changed from: package-private */
-        public void headerTableSizeSetting(int i) {
-            this.headerTableSizeSetting = i;
-            this.maxDynamicTableByteCount = i;
-            adjustDynamicTableByteCount();
-        }
-
-        private void adjustDynamicTableByteCount() {
-            int i = this.maxDynamicTableByteCount;
-            int i2 = this.dynamicTableByteCount;
+        void setMaxByteCount(int i) {
+            this.maxByteCount = i;
+            int i2 = this.byteCount;
             if (i < i2) {
                 if (i == 0) {
-                    clearDynamicTable();
+                    clear();
                 } else {
                     evictToRecoverBytes(i2 - i);
                 }
             }
         }
 
-        private void clearDynamicTable() {
-            this.headerList.clear();
-            Arrays.fill(this.dynamicTable, (Object) null);
-            this.nextHeaderIndex = this.dynamicTable.length - 1;
+        void clear() {
+            Arrays.fill(this.headers, (Object) null);
+            this.nextHeaderIndex = 0;
             this.headerCount = 0;
-            this.dynamicTableByteCount = 0;
+            this.byteCount = 0;
         }
 
         private int evictToRecoverBytes(int i) {
-            int i2;
-            int i3 = 0;
-            if (i > 0) {
-                int length = this.dynamicTable.length;
-                while (true) {
-                    length--;
-                    i2 = this.nextHeaderIndex;
-                    if (length < i2 || i <= 0) {
-                        break;
-                    }
-                    i -= this.dynamicTable[length].hpackSize;
-                    this.dynamicTableByteCount -= this.dynamicTable[length].hpackSize;
-                    this.headerCount--;
-                    i3++;
-                }
-                Header[] headerArr = this.dynamicTable;
-                System.arraycopy(headerArr, i2 + 1, headerArr, i2 + 1 + i3, this.headerCount);
-                this.nextHeaderIndex += i3;
+            int i2 = 0;
+            int length = this.headers.length - 1;
+            while (i > 0 && this.headerCount > 0) {
+                int i3 = (this.nextHeaderIndex - this.headerCount) & length;
+                Header[] headerArr = this.headers;
+                int i4 = headerArr[i3].hpackSize;
+                headerArr[i3] = null;
+                i -= i4;
+                this.byteCount -= i4;
+                this.headerCount--;
+                i2++;
+            }
+            return i2;
+        }
+
+        void insert(Header header) {
+            int i = header.hpackSize;
+            int i2 = this.maxByteCount;
+            if (i > i2) {
+                clear();
+                return;
+            }
+            evictToRecoverBytes((this.byteCount + i) - i2);
+            int i3 = this.headerCount;
+            Header[] headerArr = this.headers;
+            if (i3 == headerArr.length) {
+                Header[] headerArr2 = new Header[headerArr.length * 2];
+                int length = (this.nextHeaderIndex - i3) & (headerArr.length - 1);
+                int min = Math.min(i3, headerArr.length - length);
+                System.arraycopy(headerArr, length, headerArr2, 0, min);
+                System.arraycopy(headerArr, 0, headerArr2, min, i3 - min);
+                this.headers = headerArr2;
+                this.nextHeaderIndex = i3;
             }
-            return i3;
+            Header[] headerArr3 = this.headers;
+            int i4 = this.nextHeaderIndex;
+            headerArr3[i4] = header;
+            this.nextHeaderIndex = (i4 + 1) & (headerArr3.length - 1);
+            this.headerCount++;
+            this.byteCount += i;
+        }
+    }
+
+    /* loaded from: classes.dex */
+    static final class Reader {
+        final DynamicTable dynamicTable;
+        private int headerTableSizeSetting;
+        private final BufferedSource source;
+        private List<Header> headerList = new ArrayList();
+        private final Buffer huffmanBuffer = new Buffer();
+
+        /* JADX INFO: Access modifiers changed from: package-private */
+        public Reader(int i, Source source) {
+            this.dynamicTable = new DynamicTable(i);
+            this.headerTableSizeSetting = i;
+            this.source = Okio.buffer(source);
+        }
+
+        int maxDynamicTableByteCount() {
+            return this.dynamicTable.maxByteCount;
+        }
+
+        /* JADX INFO: Access modifiers changed from: package-private */
+        public void headerTableSizeSetting(int i) {
+            this.headerTableSizeSetting = i;
+            this.dynamicTable.setMaxByteCount(i);
         }
 
         /* JADX INFO: Access modifiers changed from: package-private */
@@ -117,11 +144,10 @@ public final class Hpack {
                     readLiteralHeaderWithIncrementalIndexingIndexedName(readInt(readByte, 63) - 1);
                 } else if ((readByte & 32) == 32) {
                     int readInt = readInt(readByte, 31);
-                    this.maxDynamicTableByteCount = readInt;
                     if (readInt < 0 || readInt > this.headerTableSizeSetting) {
-                        throw new IOException("Invalid dynamic table size update " + this.maxDynamicTableByteCount);
+                        throw new IOException("Invalid dynamic table size update " + readInt);
                     }
-                    adjustDynamicTableByteCount();
+                    this.dynamicTable.setMaxByteCount(readInt);
                 } else if (readByte == 16 || readByte == 0) {
                     readLiteralHeaderWithoutIndexingNewName();
                 } else {
@@ -131,9 +157,9 @@ public final class Hpack {
         }
 
         public List<Header> getAndResetHeaderList() {
-            ArrayList arrayList = new ArrayList(this.headerList);
-            this.headerList.clear();
-            return arrayList;
+            List<Header> list = this.headerList;
+            this.headerList = new ArrayList(Math.max(8, list.size()));
+            return list;
         }
 
         private void readIndexedHeader(int i) throws IOException {
@@ -141,19 +167,15 @@ public final class Hpack {
                 this.headerList.add(Hpack.STATIC_HEADER_TABLE[i]);
                 return;
             }
-            int dynamicTableIndex = dynamicTableIndex(i - Hpack.STATIC_HEADER_TABLE.length);
-            if (dynamicTableIndex >= 0) {
-                Header[] headerArr = this.dynamicTable;
-                if (dynamicTableIndex <= headerArr.length - 1) {
-                    this.headerList.add(headerArr[dynamicTableIndex]);
-                    return;
-                }
-            }
-            throw new IOException("Header index too large " + (i + 1));
+            this.headerList.add(dynamicTableHeader(i));
         }
 
-        private int dynamicTableIndex(int i) {
-            return this.nextHeaderIndex + 1 + i;
+        private Header dynamicTableHeader(int i) throws IOException {
+            int length = i - Hpack.STATIC_HEADER_TABLE.length;
+            if (length < 0 || length >= this.dynamicTable.headerCount) {
+                throw new IOException("Header index too large " + (i + 1));
+            }
+            return this.dynamicTable.get(length);
         }
 
         private void readLiteralHeaderWithoutIndexingIndexedName(int i) throws IOException {
@@ -165,50 +187,24 @@ public final class Hpack {
         }
 
         private void readLiteralHeaderWithIncrementalIndexingIndexedName(int i) throws IOException {
-            insertIntoDynamicTable(-1, new Header(getName(i), readByteString()));
+            insertIntoDynamicTable(new Header(getName(i), readByteString()));
         }
 
         private void readLiteralHeaderWithIncrementalIndexingNewName() throws IOException {
-            insertIntoDynamicTable(-1, new Header(Hpack.checkLowercase(readByteString()), readByteString()));
+            insertIntoDynamicTable(new Header(Hpack.checkLowercase(readByteString()), readByteString()));
         }
 
-        private ByteString getName(int i) {
-            return isStaticHeader(i) ? Hpack.STATIC_HEADER_TABLE[i].name : this.dynamicTable[dynamicTableIndex(i - Hpack.STATIC_HEADER_TABLE.length)].name;
+        private ByteString getName(int i) throws IOException {
+            return isStaticHeader(i) ? Hpack.STATIC_HEADER_TABLE[i].name : dynamicTableHeader(i).name;
         }
 
         private boolean isStaticHeader(int i) {
             return i >= 0 && i <= Hpack.STATIC_HEADER_TABLE.length - 1;
         }
 
-        private void insertIntoDynamicTable(int i, Header header) {
+        private void insertIntoDynamicTable(Header header) {
             this.headerList.add(header);
-            int i2 = header.hpackSize;
-            if (i != -1) {
-                i2 -= this.dynamicTable[dynamicTableIndex(i)].hpackSize;
-            }
-            int i3 = this.maxDynamicTableByteCount;
-            if (i2 > i3) {
-                clearDynamicTable();
-                return;
-            }
-            int evictToRecoverBytes = evictToRecoverBytes((this.dynamicTableByteCount + i2) - i3);
-            if (i == -1) {
-                int i4 = this.headerCount + 1;
-                Header[] headerArr = this.dynamicTable;
-                if (i4 > headerArr.length) {
-                    Header[] headerArr2 = new Header[headerArr.length * 2];
-                    System.arraycopy(headerArr, 0, headerArr2, headerArr.length, headerArr.length);
-                    this.nextHeaderIndex = this.dynamicTable.length - 1;
-                    this.dynamicTable = headerArr2;
-                }
-                int i5 = this.nextHeaderIndex;
-                this.nextHeaderIndex = i5 - 1;
-                this.dynamicTable[i5] = header;
-                this.headerCount++;
-            } else {
-                this.dynamicTable[i + dynamicTableIndex(i) + evictToRecoverBytes] = header;
-            }
-            this.dynamicTableByteCount += i2;
+            this.dynamicTable.insert(header);
         }
 
         private int readByte() throws IOException {
@@ -236,52 +232,230 @@ public final class Hpack {
             boolean z = (readByte & 128) == 128;
             int readInt = readInt(readByte, 127);
             if (z) {
-                return ByteString.of(Huffman.get().decode(this.source.readByteArray(readInt)));
+                Huffman.get().decode(this.source, readInt, this.huffmanBuffer);
+                return this.huffmanBuffer.readByteString();
             }
             return this.source.readByteString(readInt);
         }
     }
 
-    private static Map<ByteString, Integer> nameToFirstIndex() {
-        LinkedHashMap linkedHashMap = new LinkedHashMap(STATIC_HEADER_TABLE.length);
+    private static int[] staticNameSlots() {
+        int[] iArr = new int[128];
         int i = 0;
         while (true) {
             Header[] headerArr = STATIC_HEADER_TABLE;
-            if (i < headerArr.length) {
-                if (!linkedHashMap.containsKey(headerArr[i].name)) {
-                    linkedHashMap.put(headerArr[i].name, Integer.valueOf(i));
+            if (i >= headerArr.length) {
+                return iArr;
+            }
+            ByteString byteString = headerArr[i].name;
+            int asciiLowercaseHash = asciiLowercaseHash(byteString);
+            while (true) {
+                int i2 = asciiLowercaseHash & STATIC_NAME_MASK;
+                int i3 = iArr[i2];
+                if (i3 == 0) {
+                    iArr[i2] = i + 1;
+                    break;
+                } else if (STATIC_HEADER_TABLE[i3 - 1].name.equals(byteString)) {
+                    break;
+                } else {
+                    asciiLowercaseHash = i2 + 1;
                 }
-                i++;
-            } else {
-                return Collections.unmodifiableMap(linkedHashMap);
             }
+            i++;
         }
     }
 
+    /* JADX INFO: Access modifiers changed from: private */
+    public static int staticNameIndex(ByteString byteString) {
+        int asciiLowercaseHash = asciiLowercaseHash(byteString);
+        while (true) {
+            int i = asciiLowercaseHash & STATIC_NAME_MASK;
+            int i2 = STATIC_NAME_SLOTS[i];
+            if (i2 == 0) {
+                return -1;
+            }
+            int i3 = i2 - 1;
+            if (equalsAsciiIgnoreCase(STATIC_HEADER_TABLE[i3].name, byteString)) {
+                return i3;
+            }
+            asciiLowercaseHash = i + 1;
+        }
+    }
+
+    private static int asciiLowercaseHash(ByteString byteString) {
+        int size = byteString.size();
+        int i = 0;
+        for (int i2 = 0; i2 < size; i2++) {
+            byte b = byteString.getByte(i2);
+            if (b >= 65 && b <= 90) {
+                b = (byte) (b + 32);
+            }
+            i = (i * 31) + b;
+        }
+        return i ^ (i >>> 7);
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public static boolean equalsAsciiIgnoreCase(ByteString byteString, ByteString byteString2) {
+        int size = byteString.size();
+        if (byteString2.size() != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            byte b = byteString2.getByte(i);
+            if (b >= 65 && b <= 90) {
+                b = (byte) (b + 32);
+            }
+            if (byteString.getByte(i) != b) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /* loaded from: classes.dex */
     static final class Writer {
+        private static final ByteString AUTHORIZATION = ByteString.encodeUtf8("authorization");
+        private static final ByteString COOKIE = ByteString.encodeUtf8("cookie");
+        private static final ByteString PROXY_AUTHORIZATION = ByteString.encodeUtf8("proxy-authorization");
+        private static final ByteString SET_COOKIE = ByteString.encodeUtf8("set-cookie");
+        private static final int SETTINGS_HEADER_TABLE_SIZE_LIMIT = 16384;
+        private static final int SHORT_SECRET_LENGTH = 20;
+        final DynamicTable dynamicTable;
+        private boolean emitDynamicTableSizeUpdate;
+        int headerTableSizeSetting;
         private final Buffer out;
+        private int smallestHeaderTableSizeSetting;
+        private final boolean useCompression;
 
         /* JADX INFO: Access modifiers changed from: package-private */
         public Writer(Buffer buffer) {
+            this(0, true, buffer);
+        }
+
+        /* JADX INFO: Access modifiers changed from: package-private */
+        public Writer(int i, boolean z, Buffer buffer) {
+            this.smallestHeaderTableSizeSetting = Integer.MAX_VALUE;
+            this.dynamicTable = new DynamicTable(i);
+            this.headerTableSizeSetting = i;
+            this.useCompression = z;
             this.out = buffer;
         }
 
+        /* JADX INFO: Access modifiers changed from: package-private */
+        public void headerTableSizeSetting(int i) {
+            this.headerTableSizeSetting = i;
+            int min = Math.min(i, SETTINGS_HEADER_TABLE_SIZE_LIMIT);
+            int i2 = this.dynamicTable.maxByteCount;
+            if (i2 == min) {
+                return;
+            }
+            if (min < i2) {
+                this.smallestHeaderTableSizeSetting = Math.min(this.smallestHeaderTableSizeSetting, min);
+            }
+            this.emitDynamicTableSizeUpdate = true;
+            this.dynamicTable.setMaxByteCount(min);
+        }
+
+        /* JADX INFO: Access modifiers changed from: package-private */
+        public void applySettings(Settings settings) {
+            int headerTableSize = settings.getHeaderTableSize();
+            if (headerTableSize != -1) {
+                headerTableSizeSetting(headerTableSize);
+            }
+        }
+
         /* JADX INFO: Access modifiers changed from: package-private */
         public void writeHeaders(List<Header> list) throws IOException {
+            int i;
+            int i2;
+            if (this.emitDynamicTableSizeUpdate) {
+                int i3 = this.smallestHeaderTableSizeSetting;
+                if (i3 < this.dynamicTable.maxByteCount) {
+                    writeInt(i3, 31, 32);
+                }
+                this.emitDynamicTableSizeUpdate = false;
+                this.smallestHeaderTableSizeSetting = Integer.MAX_VALUE;
+                writeInt(this.dynamicTable.maxByteCount, 31, 32);
+            }
             int size = list.size();
-            for (int i = 0; i < size; i++) {
-                ByteString asciiLowercase = list.get(i).name.toAsciiLowercase();
-                Integer num = (Integer) Hpack.NAME_TO_FIRST_INDEX.get(asciiLowercase);
-                if (num != null) {
-                    writeInt(num.intValue() + 1, 15, 0);
-                    writeByteString(list.get(i).value);
+            for (int i4 = 0; i4 < size; i4++) {
+                Header header = list.get(i4);
+                ByteString byteString = header.name;
+                ByteString byteString2 = header.value;
+                int staticNameIndex = Hpack.staticNameIndex(byteString);
+                if (staticNameIndex != -1) {
+                    i2 = staticNameIndex + 1;
+                    i = -1;
+                    ByteString byteString3 = Hpack.STATIC_HEADER_TABLE[staticNameIndex].name;
+                    while (true) {
+                        Header[] headerArr = Hpack.STATIC_HEADER_TABLE;
+                        if (staticNameIndex >= headerArr.length || !headerArr[staticNameIndex].name.equals(byteString3)) {
+                            break;
+                        } else if (headerArr[staticNameIndex].value.equals(byteString2)) {
+                            i = staticNameIndex + 1;
+                            break;
+                        } else {
+                            staticNameIndex++;
+                        }
+                    }
                 } else {
-                    this.out.writeByte(0);
-                    writeByteString(asciiLowercase);
-                    writeByteString(list.get(i).value);
+                    i = -1;
+                    i2 = -1;
+                }
+                if (i == -1) {
+                    int i5 = this.dynamicTable.headerCount;
+                    int i6 = 0;
+                    while (true) {
+                        if (i6 >= i5) {
+                            break;
+                        }
+                        Header header2 = this.dynamicTable.get(i6);
+                        if (Hpack.equalsAsciiIgnoreCase(header2.name, byteString)) {
+                            if (header2.value.equals(byteString2)) {
+                                i = i6 + 1 + Hpack.STATIC_HEADER_TABLE.length;
+                                break;
+                            } else if (i2 == -1) {
+                                i2 = i6 + 1 + Hpack.STATIC_HEADER_TABLE.length;
+                            }
+                        }
+                        i6++;
+                    }
                 }
+                if (i != -1) {
+                    writeInt(i, 127, 128);
+                } else {
+                    ByteString asciiLowercase = i2 == -1 ? byteString.toAsciiLowercase() : null;
+                    if (isSensitive(byteString, byteString2)) {
+                        writeLiteral(i2, asciiLowercase, byteString2, 15, 16);
+                    } else if (this.dynamicTable.maxByteCount == 0 || (byteString.size() > 0 && byteString.getByte(0) == 58 && !Hpack.equalsAsciiIgnoreCase(Header.TARGET_AUTHORITY, byteString))) {
+                        writeLiteral(i2, asciiLowercase, byteString2, 15, 0);
+                    } else {
+                        writeLiteral(i2, asciiLowercase, byteString2, 63, 64);
+                        if (asciiLowercase == null) {
+                            asciiLowercase = byteString.toAsciiLowercase();
+                        }
+                        this.dynamicTable.insert(asciiLowercase == byteString ? header : new Header(asciiLowercase, byteString2));
+                    }
+                }
+            }
+        }
+
+        private void writeLiteral(int i, ByteString byteString, ByteString byteString2, int i2, int i3) throws IOException {
+            if (i == -1) {
+                this.out.writeByte(i3);
+                writeByteString(byteString);
+            } else {
+                writeInt(i, i2, i3);
+            }
+            writeByteString(byteString2);
+        }
+
+        private static boolean isSensitive(ByteString byteString, ByteString byteString2) {
+            if (Hpack.equalsAsciiIgnoreCase(PROXY_AUTHORIZATION, byteString) || Hpack.equalsAsciiIgnoreCase(SET_COOKIE, byteString)) {
+                return true;
             }
+            return byteString2.size() < SHORT_SECRET_LENGTH && (Hpack.equalsAsciiIgnoreCase(AUTHORIZATION, byteString) || Hpack.equalsAsciiIgnoreCase(COOKIE, byteString));
         }
 
         void writeInt(int i, int i2, int i3) throws IOException {
@@ -299,6 +473,14 @@ public final class Hpack {
         }
 
         void writeByteString(ByteString byteString) throws IOException {
+            if (this.useCompression) {
+                int encodedLength = Huffman.get().encodedLength(byteString);
+                if (encodedLength < byteString.size()) {
+                    writeInt(encodedLength, 127, 128);
+                    Huffman.get().encode(byteString, this.out);
+                    return;
+                }
+            }
             writeInt(byteString.size(), 127, 0);
             this.out.write(byteString);
         }
@@ -2,29 +2,33 @@ package com.squareup.okhttp.internal.framed;
 
 import androidx.core.view.PointerIconCompat;
 import androidx.recyclerview.widget.ItemTouchHelper;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import kotlin.UByte;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.ByteString;
 /* loaded from: classes.dex */
 class Huffman {
     private static final int[] CODES = {8184, 8388568, 268435426, 268435427, 268435428, 268435429, 268435430, 268435431, 268435432, 16777194, 1073741820, 268435433, 268435434, 1073741821, 268435435, 268435436, 268435437, 268435438, 268435439, 268435440, 268435441, 268435442, 1073741822, 268435443, 268435444, 268435445, 268435446, 268435447, 268435448, 268435449, 268435450, 268435451, 20, PointerIconCompat.TYPE_TOP_RIGHT_DIAGONAL_DOUBLE_ARROW, PointerIconCompat.TYPE_TOP_LEFT_DIAGONAL_DOUBLE_ARROW, 4090, 8185, 21, 248, 2042, PointerIconCompat.TYPE_ZOOM_IN, PointerIconCompat.TYPE_ZOOM_OUT, 249, 2043, ItemTouchHelper.Callback.DEFAULT_SWIPE_ANIMATION_DURATION, 22, 23, 24, 0, 1, 2, 25, 26, 27, 28, 29, 30, 31, 92, 251, 32764, 32, 4091, PointerIconCompat.TYPE_GRAB, 8186, 33, 93, 94, 95, 96, 97, 98, 99, 100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110, 111, 112, 113, 114, 252, 115, 253, 8187, 524272, 8188, 16380, 34, 32765, 3, 35, 4, 36, 5, 37, 38, 39, 6, 116, 117, 40, 41, 42, 7, 43, 118, 44, 8, 9, 45, 119, 120, 121, 122, 123, 32766, 2044, 16381, 8189, 268435452, 1048550, 4194258, 1048551, 1048552, 4194259, 4194260, 4194261, 8388569, 4194262, 8388570, 8388571, 8388572, 8388573, 8388574, 16777195, 8388575, 16777196, 16777197, 4194263, 8388576, 16777198, 8388577, 8388578, 8388579, 8388580, 2097116, 4194264, 8388581, 4194265, 8388582, 8388583, 16777199, 4194266, 2097117, 1048553, 4194267, 4194268, 8388584, 8388585, 2097118, 8388586, 4194269, 4194270, 16777200, 2097119, 4194271, 8388587, 8388588, 2097120, 2097121, 4194272, 2097122, 8388589, 4194273, 8388590, 8388591, 1048554, 4194274, 4194275, 4194276, 8388592, 4194277, 4194278, 8388593, 67108832, 67108833, 1048555, 524273, 4194279, 8388594, 4194280, 33554412, 67108834, 67108835, 67108836, 134217694, 134217695, 67108837, 16777201, 33554413, 524274, 2097123, 67108838, 134217696, 134217697, 67108839, 134217698, 16777202, 2097124, 2097125, 67108840, 67108841, 268435453, 134217699, 134217700, 134217701, 1048556, 16777203, 1048557, 2097126, 4194281, 2097127, 2097128, 8388595, 4194282, 4194283, 33554414, 33554415, 16777204, 16777205, 67108842, 8388596, 67108843, 134217702, 67108844, 67108845, 134217703, 134217704, 134217705, 134217706, 134217707, 268435454, 134217708, 134217709, 134217710, 134217711, 134217712, 67108846};
     private static final byte[] CODE_LENGTHS = {13, 23, 28, 28, 28, 28, 28, 28, 28, 24, 30, 28, 28, 30, 28, 28, 28, 28, 28, 28, 28, 28, 30, 28, 28, 28, 28, 28, 28, 28, 28, 28, 6, 10, 10, 12, 13, 6, 8, 11, 10, 10, 8, 11, 8, 6, 6, 6, 5, 5, 5, 6, 6, 6, 6, 6, 6, 6, 7, 8, 15, 6, 12, 10, 13, 6, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 8, 7, 8, 13, 19, 13, 14, 6, 15, 5, 6, 5, 6, 5, 6, 6, 6, 5, 7, 7, 6, 6, 6, 5, 6, 7, 6, 5, 5, 6, 7, 7, 7, 7, 7, 15, 11, 14, 13, 28, 20, 22, 20, 20, 22, 22, 22, 23, 22, 23, 23, 23, 23, 23, 24, 23, 24, 24, 22, 23, 24, 23, 23, 23, 23, 21, 22, 23, 22, 23, 23, 24, 22, 21, 20, 22, 22, 23, 23, 21, 23, 22, 22, 24, 21, 22, 23, 23, 21, 21, 22, 21, 23, 22, 23, 23, 20, 22, 22, 22, 23, 22, 22, 23, 26, 26, 20, 19, 22, 23, 22, 25, 26, 26, 26, 27, 27, 26, 24, 25, 19, 21, 26, 27, 27, 26, 27, 24, 21, 21, 26, 26, 28, 27, 27, 27, 20, 24, 20, 21, 22, 21, 21, 23, 22, 22, 25, 25, 24, 24, 26, 23, 26, 27, 26, 26, 27, 27, 27, 27, 27, 28, 27, 27, 27, 27, 27, 26};
+    private static final int FLAG_EMIT = 65536;
+    private static final int FLAG_FAIL = 131072;
     private static final Huffman INSTANCE = new Huffman();
-    private final Node root = new Node();
+    private static final int[] TRANSITIONS = buildTransitions();
 
     public static Huffman get() {
         return INSTANCE;
     }
 
     private Huffman() {
-        buildTree();
     }
 
     void encode(byte[] bArr, OutputStream outputStream) throws IOException {
         int i = 0;
         long j = 0;
-        byte b = 0;
+        int b = 0;
         while (i < bArr.length) {
             int i2 = bArr[i] & UByte.MAX_VALUE;
             int i3 = CODES[i2];
@@ -32,7 +36,7 @@ class Huffman {
             j = (j << b2) | i3;
             int i4 = b + b2;
             while (i4 >= 8) {
-                i4 = (i4 == 1 ? 1 : 0) - 8;
+                i4 -= 8;
                 outputStream.write((int) (j >> i4));
             }
             i++;
@@ -43,6 +47,36 @@ class Huffman {
         }
     }
 
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void encode(ByteString byteString, BufferedSink bufferedSink) throws IOException {
+        int size = byteString.size();
+        long j = 0;
+        int i = 0;
+        for (int i2 = 0; i2 < size; i2++) {
+            int i3 = byteString.getByte(i2) & UByte.MAX_VALUE;
+            byte b = CODE_LENGTHS[i3];
+            j = (j << b) | CODES[i3];
+            i += b;
+            while (i >= 8) {
+                i -= 8;
+                bufferedSink.writeByte((int) (j >> i));
+            }
+        }
+        if (i > 0) {
+            bufferedSink.writeByte((int) ((255 >>> i) | (j << (8 - i))));
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public int encodedLength(ByteString byteString) {
+        int size = byteString.size();
+        long j = 0;
+        for (int i = 0; i < size; i++) {
+            j += CODE_LENGTHS[byteString.getByte(i) & UByte.MAX_VALUE];
+        }
+        return (int) ((j + 7) >> 3);
+    }
+
     int encodedLength(byte[] bArr) {
         long j = 0;
         for (byte b : bArr) {
@@ -53,88 +87,88 @@ class Huffman {
 
     /* JADX INFO: Access modifiers changed from: package-private */
     public byte[] decode(byte[] bArr) throws IOException {
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        Node node = this.root;
-        int i = 0;
-        int i2 = 0;
-        for (byte b : bArr) {
-            i = (i << 8) | (b & UByte.MAX_VALUE);
-            i2 += 8;
-            while (i2 >= 8) {
-                node = node.children[(i >>> (i2 - 8)) & 255];
-                if (node.children == null) {
-                    byteArrayOutputStream.write(node.symbol);
-                    i2 -= node.terminalBits;
-                    node = this.root;
-                } else {
-                    i2 -= 8;
-                }
-            }
-        }
-        while (i2 > 0) {
-            Node node2 = node.children[(i << (8 - i2)) & 255];
-            if (node2.children != null || node2.terminalBits > i2) {
-                break;
-            }
-            byteArrayOutputStream.write(node2.symbol);
-            i2 -= node2.terminalBits;
-            node = this.root;
-        }
-        return byteArrayOutputStream.toByteArray();
+        Buffer buffer = new Buffer();
+        buffer.write(bArr);
+        Buffer buffer2 = new Buffer();
+        decode(buffer, bArr.length, buffer2);
+        return buffer2.readByteArray();
     }
 
-    private void buildTree() {
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void decode(BufferedSource bufferedSource, long j, Buffer buffer) throws IOException {
+        bufferedSource.require(j);
         int i = 0;
-        while (true) {
-            byte[] bArr = CODE_LENGTHS;
-            if (i >= bArr.length) {
-                return;
+        for (long j2 = 0; j2 < j; j2++) {
+            int readByte = bufferedSource.readByte() & UByte.MAX_VALUE;
+            int i2 = TRANSITIONS[(i << 4) | (readByte >>> 4)];
+            if ((i2 & FLAG_FAIL) != 0) {
+                throw new IOException("Invalid Huffman code");
             }
-            addCode(i, CODES[i], bArr[i]);
-            i++;
-        }
-    }
-
-    private void addCode(int i, int i2, byte b) {
-        Node node = new Node(i, b);
-        Node node2 = this.root;
-        while (b > 8) {
-            b = (byte) (b - 8);
-            int i3 = (i2 >>> b) & 255;
-            if (node2.children == null) {
-                throw new IllegalStateException("invalid dictionary: prefix not unique");
+            if ((i2 & FLAG_EMIT) != 0) {
+                buffer.writeByte(i2 >>> 8);
             }
-            if (node2.children[i3] == null) {
-                node2.children[i3] = new Node();
+            int i3 = TRANSITIONS[((i2 & 255) << 4) | (readByte & 15)];
+            if ((i3 & FLAG_FAIL) != 0) {
+                throw new IOException("Invalid Huffman code");
             }
-            node2 = node2.children[i3];
-        }
-        int i4 = 8 - b;
-        int i5 = (i2 << i4) & 255;
-        int i6 = 1 << i4;
-        for (int i7 = i5; i7 < i5 + i6; i7++) {
-            node2.children[i7] = node;
+            if ((i3 & FLAG_EMIT) != 0) {
+                buffer.writeByte(i3 >>> 8);
+            }
+            i = i3 & 255;
         }
     }
 
-    /* JADX INFO: Access modifiers changed from: private */
-    /* loaded from: classes.dex */
-    public static final class Node {
-        private final Node[] children;
-        private final int symbol;
-        private final int terminalBits;
-
-        Node() {
-            this.children = new Node[256];
-            this.symbol = 0;
-            this.terminalBits = 0;
+    private static int[] buildTransitions() {
+        int[] iArr = new int[512];
+        int i = 1;
+        for (int i2 = 0; i2 < CODES.length; i2++) {
+            int i3 = CODES[i2];
+            int i4 = 0;
+            for (int i5 = CODE_LENGTHS[i2] - 1; i5 > 0; i5--) {
+                int i6 = (i4 * 2) + ((i3 >>> i5) & 1);
+                int i7 = iArr[i6];
+                if (i7 < 0) {
+                    throw new IllegalStateException("invalid dictionary: prefix not unique");
+                }
+                if (i7 == 0) {
+                    if (i >= 256) {
+                        throw new IllegalStateException("invalid dictionary: too many states");
+                    }
+                    iArr[i6] = i;
+                    i7 = i;
+                    i++;
+                }
+                i4 = i7;
+            }
+            iArr[(i4 * 2) + (i3 & 1)] = -(i2 + 1);
         }
-
-        Node(int i, int i2) {
-            this.children = null;
-            this.symbol = i;
-            int i3 = i2 & 7;
-            this.terminalBits = i3 == 0 ? 8 : i3;
+        int[] iArr2 = new int[i * 16];
+        for (int i8 = 0; i8 < i; i8++) {
+            for (int i9 = 0; i9 < 16; i9++) {
+                int i10 = i8;
+                int i11 = 0;
+                int i12 = 3;
+                while (true) {
+                    if (i12 < 0) {
+                        break;
+                    }
+                    int i13 = iArr[(i10 * 2) + ((i9 >>> i12) & 1)];
+                    if (i13 == 0) {
+                        i11 = FLAG_FAIL;
+                        i10 = 0;
+                        break;
+                    }
+                    if (i13 < 0) {
+                        i11 = (((-i13) - 1) << 8) | FLAG_EMIT;
+                        i10 = 0;
+                    } else {
+                        i10 = i13;
+                    }
+                    i12--;
+                }
+                iArr2[(i8 * 16) + i9] = i11 | i10;
+            }
         }
+        return iArr2;
     }
 }
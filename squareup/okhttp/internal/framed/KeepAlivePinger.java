@@ -0,0 +1,302 @@
+package com.squareup.okhttp.internal.framed;
+
+import com.squareup.okhttp.internal.NamedRunnable;
+import com.squareup.okhttp.internal.Util;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+/* loaded from: classes.dex */
+public final class KeepAlivePinger {
+    static final long DEFAULT_ACK_TIMEOUT_MILLIS = 3000;
+    static final long DEFAULT_INTERVAL_MILLIS = 10000;
+    static final int DEFAULT_MAX_MISSED_ACKS = 2;
+    static final int KEEPALIVE_PING_PAYLOAD = 1262836033;
+    private static final int RTT_HISTORY_SIZE = 16;
+    private static final ScheduledExecutorService SCHEDULER;
+    private final long ackTimeoutNanos;
+    private boolean closed;
+    private final FrameWriter frameWriter;
+    private final long intervalNanos;
+    private volatile long lastActivityNanos;
+    private final Listener listener;
+    private final int maxMissedAcks;
+    private int missedAcks;
+    private ExecutorService ownedWriteExecutor;
+    private Ping probe;
+    private long probeSentNanos;
+    private int probeSequence;
+    private final long[] roundTripTimes;
+    private int roundTripTimeCount;
+    private ScheduledFuture<?> scheduledTick;
+    private volatile boolean suspect;
+    private int tickGeneration;
+    private boolean unhealthy;
+    private final Executor writeExecutor;
+
+    /* loaded from: classes.dex */
+    public interface Listener {
+        void onUnhealthy(KeepAlivePinger keepAlivePinger);
+    }
+
+    static {
+        ScheduledThreadPoolExecutor scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor(1, Util.threadFactory("OkHttp KeepAlive", true));
+        scheduledThreadPoolExecutor.setRemoveOnCancelPolicy(true);
+        SCHEDULER = scheduledThreadPoolExecutor;
+    }
+
+    public KeepAlivePinger(FrameWriter frameWriter, Listener listener) {
+        this(frameWriter, listener, DEFAULT_INTERVAL_MILLIS, DEFAULT_ACK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_MAX_MISSED_ACKS);
+    }
+
+    public KeepAlivePinger(FrameWriter frameWriter, Listener listener, long j, long j2, TimeUnit timeUnit, int i) {
+        this(frameWriter, listener, j, j2, timeUnit, i, null);
+    }
+
+    public KeepAlivePinger(FrameWriter frameWriter, Listener listener, long j, long j2, TimeUnit timeUnit, int i, Executor executor) {
+        this.roundTripTimes = new long[RTT_HISTORY_SIZE];
+        if (j <= 0) {
+            throw new IllegalArgumentException("interval <= 0: " + j);
+        }
+        if (j2 <= 0) {
+            throw new IllegalArgumentException("ackTimeout <= 0: " + j2);
+        }
+        if (i <= 0) {
+            throw new IllegalArgumentException("maxMissedAcks <= 0: " + i);
+        }
+        this.frameWriter = frameWriter;
+        this.listener = listener;
+        this.intervalNanos = timeUnit.toNanos(j);
+        this.ackTimeoutNanos = timeUnit.toNanos(j2);
+        this.maxMissedAcks = i;
+        this.lastActivityNanos = System.nanoTime();
+        if (executor == null) {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue(), Util.threadFactory("OkHttp KeepAlive Writer", true));
+            this.ownedWriteExecutor = threadPoolExecutor;
+            executor = threadPoolExecutor;
+        }
+        this.writeExecutor = executor;
+    }
+
+    public synchronized void start() {
+        if (this.closed || this.scheduledTick != null) {
+            return;
+        }
+        schedule(this.intervalNanos);
+    }
+
+    public synchronized void stop() {
+        this.closed = true;
+        this.tickGeneration++;
+        ScheduledFuture<?> scheduledFuture = this.scheduledTick;
+        if (scheduledFuture != null) {
+            this.scheduledTick = null;
+            scheduledFuture.cancel(false);
+        }
+        Ping ping = this.probe;
+        if (ping != null) {
+            this.probe = null;
+            ping.cancel();
+        }
+        ExecutorService executorService = this.ownedWriteExecutor;
+        if (executorService != null) {
+            this.ownedWriteExecutor = null;
+            executorService.shutdown();
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void frameReceived() {
+        this.lastActivityNanos = System.nanoTime();
+        if (this.suspect) {
+            synchronized (this) {
+                this.suspect = false;
+                this.missedAcks = 0;
+            }
+        }
+    }
+
+    public void pingNow() {
+        boolean z;
+        synchronized (this) {
+            if (this.closed || this.unhealthy || this.probe != null) {
+                return;
+            }
+            z = !sendProbe(System.nanoTime());
+        }
+        if (z) {
+            this.listener.onUnhealthy(this);
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public boolean pingAcknowledged(int i, int i2) {
+        if (i != KEEPALIVE_PING_PAYLOAD) {
+            return false;
+        }
+        synchronized (this) {
+            if (i2 - this.probeSequence > 0) {
+                return true;
+            }
+            this.missedAcks = 0;
+            this.suspect = false;
+            this.lastActivityNanos = System.nanoTime();
+            Ping ping = this.probe;
+            if (ping == null || i2 != this.probeSequence) {
+                return true;
+            }
+            this.probe = null;
+            ping.receive();
+            long roundTripTime = roundTripTime(ping);
+            if (roundTripTime >= 0) {
+                this.roundTripTimes[this.roundTripTimeCount % RTT_HISTORY_SIZE] = roundTripTime;
+                this.roundTripTimeCount++;
+            }
+            if (!this.closed) {
+                reschedule(this.intervalNanos);
+            }
+            return true;
+        }
+    }
+
+    public synchronized boolean isHealthy() {
+        return !this.unhealthy;
+    }
+
+    public synchronized boolean acceptsNewStreams() {
+        return !this.closed && !this.unhealthy && !this.suspect;
+    }
+
+    public synchronized long[] roundTripTimes(TimeUnit timeUnit) {
+        int min = Math.min(this.roundTripTimeCount, RTT_HISTORY_SIZE);
+        long[] jArr = new long[min];
+        int i = this.roundTripTimeCount - min;
+        for (int i2 = 0; i2 < min; i2++) {
+            jArr[i2] = timeUnit.convert(this.roundTripTimes[(i + i2) % RTT_HISTORY_SIZE], TimeUnit.NANOSECONDS);
+        }
+        return jArr;
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public void onTick(int i) {
+        boolean z = false;
+        synchronized (this) {
+            if (i != this.tickGeneration) {
+                return;
+            }
+            this.scheduledTick = null;
+            if (this.closed || this.unhealthy) {
+                return;
+            }
+            long nanoTime = System.nanoTime();
+            if (this.probe != null) {
+                long j = nanoTime - this.probeSentNanos;
+                if (j < this.ackTimeoutNanos) {
+                    schedule(this.ackTimeoutNanos - j);
+                    return;
+                }
+                this.probe.cancel();
+                this.probe = null;
+                if (this.lastActivityNanos - this.probeSentNanos > 0) {
+                    schedule(this.intervalNanos);
+                    return;
+                }
+                this.suspect = true;
+                int i2 = this.missedAcks + 1;
+                this.missedAcks = i2;
+                if (i2 >= this.maxMissedAcks) {
+                    this.unhealthy = true;
+                    z = true;
+                } else if (!sendProbe(nanoTime)) {
+                    z = true;
+                }
+            } else {
+                long j2 = nanoTime - this.lastActivityNanos;
+                if (j2 < this.intervalNanos) {
+                    schedule(this.intervalNanos - j2);
+                    return;
+                } else if (!sendProbe(nanoTime)) {
+                    z = true;
+                }
+            }
+        }
+        if (z) {
+            this.listener.onUnhealthy(this);
+        }
+    }
+
+    private boolean sendProbe(long j) {
+        final int i = this.probeSequence + 1;
+        try {
+            this.writeExecutor.execute(new NamedRunnable("OkHttp KeepAlive ping %08x", Integer.valueOf(i)) { // from class: com.squareup.okhttp.internal.framed.KeepAlivePinger.1
+                @Override // com.squareup.okhttp.internal.NamedRunnable
+                public void execute() {
+                    KeepAlivePinger.this.writeProbe(i);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.unhealthy = true;
+            return false;
+        }
+        Ping ping = new Ping();
+        ping.send();
+        this.probeSequence = i;
+        this.probe = ping;
+        this.probeSentNanos = j;
+        reschedule(this.ackTimeoutNanos);
+        return true;
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public void writeProbe(int i) {
+        try {
+            synchronized (this.frameWriter) {
+                this.frameWriter.ping(false, KEEPALIVE_PING_PAYLOAD, i);
+                this.frameWriter.flush();
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                if (this.closed || this.unhealthy) {
+                    return;
+                }
+                this.unhealthy = true;
+            }
+            this.listener.onUnhealthy(this);
+        }
+    }
+
+    private void reschedule(long j) {
+        ScheduledFuture<?> scheduledFuture = this.scheduledTick;
+        if (scheduledFuture != null) {
+            this.scheduledTick = null;
+            scheduledFuture.cancel(false);
+        }
+        schedule(j);
+    }
+
+    private void schedule(long j) {
+        final int i = this.tickGeneration + 1;
+        this.tickGeneration = i;
+        this.scheduledTick = SCHEDULER.schedule(new Runnable() { // from class: com.squareup.okhttp.internal.framed.KeepAlivePinger.2
+            @Override // java.lang.Runnable
+            public void run() {
+                KeepAlivePinger.this.onTick(i);
+            }
+        }, j, TimeUnit.NANOSECONDS);
+    }
+
+    private static long roundTripTime(Ping ping) {
+        try {
+            return ping.roundTripTime(0L, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1L;
+        }
+    }
+}
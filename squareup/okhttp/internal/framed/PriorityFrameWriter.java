@@ -0,0 +1,7 @@
+package com.squareup.okhttp.internal.framed;
+
+import java.io.IOException;
+/* loaded from: classes.dex */
+public interface PriorityFrameWriter {
+    void priority(int i, int i2, int i3, boolean z) throws IOException;
+}
@@ -0,0 +1,345 @@
+package com.squareup.okhttp.internal.framed;
+
+import com.squareup.okhttp.Headers;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.internal.InternalCache;
+import com.squareup.okhttp.internal.http.CacheRequest;
+import com.squareup.okhttp.internal.http.CacheStrategy;
+import com.squareup.okhttp.internal.http.OkHeaders;
+import com.squareup.okhttp.internal.http.StatusLine;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.ByteString;
+import okio.Okio;
+/* loaded from: classes.dex */
+public final class PushPolicy implements PushObserver {
+    static final long UNCLAIMED_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private final long byteBudget;
+    private final InternalCache cache;
+    private final Pattern pathPattern;
+    private long pushedBytes;
+    private int refusedCount;
+    private long reservedBytes;
+    private long usedBytes;
+    private long wastedBytes;
+    private final Map<Integer, PushedStream> streams = new HashMap();
+    private final Map<String, PushedEntry> unclaimed = new LinkedHashMap();
+    private final InternalCache trackingCache = new InternalCache() { // from class: com.squareup.okhttp.internal.framed.PushPolicy.1
+        @Override // com.squareup.okhttp.internal.InternalCache
+        public Response get(Request request) throws IOException {
+            Response response = PushPolicy.this.cache.get(request);
+            if (response != null) {
+                PushPolicy.this.claim(request.urlString(), true);
+            }
+            return response;
+        }
+
+        @Override // com.squareup.okhttp.internal.InternalCache
+        public CacheRequest put(Response response) throws IOException {
+            return PushPolicy.this.cache.put(response);
+        }
+
+        @Override // com.squareup.okhttp.internal.InternalCache
+        public void remove(Request request) throws IOException {
+            PushPolicy.this.claim(request.urlString(), false);
+            PushPolicy.this.cache.remove(request);
+        }
+
+        @Override // com.squareup.okhttp.internal.InternalCache
+        public void trackConditionalCacheHit() {
+            PushPolicy.this.cache.trackConditionalCacheHit();
+        }
+
+        @Override // com.squareup.okhttp.internal.InternalCache
+        public void trackResponse(CacheStrategy cacheStrategy) {
+            PushPolicy.this.cache.trackResponse(cacheStrategy);
+        }
+
+        @Override // com.squareup.okhttp.internal.InternalCache
+        public void update(Response response, Response response2) throws IOException {
+            PushPolicy.this.cache.update(response, response2);
+        }
+    };
+
+    public PushPolicy(InternalCache internalCache, Pattern pattern, long j) {
+        if (internalCache == null) {
+            throw new IllegalArgumentException("cache == null");
+        }
+        if (pattern == null) {
+            throw new IllegalArgumentException("pathPattern == null");
+        }
+        if (j <= 0) {
+            throw new IllegalArgumentException("byteBudget <= 0: " + j);
+        }
+        this.cache = internalCache;
+        this.pathPattern = pattern;
+        this.byteBudget = j;
+    }
+
+    public InternalCache cache() {
+        return this.trackingCache;
+    }
+
+    public synchronized long pushedBytes() {
+        return this.pushedBytes;
+    }
+
+    public synchronized long usedBytes() {
+        return this.usedBytes;
+    }
+
+    public synchronized long wastedBytes() {
+        expireUnclaimed(System.nanoTime());
+        return this.wastedBytes;
+    }
+
+    public synchronized int refusedCount() {
+        return this.refusedCount;
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.PushObserver
+    public boolean onRequest(int i, List<Header> list) {
+        Headers.Builder builder = new Headers.Builder();
+        String str = null;
+        String str2 = null;
+        String str3 = null;
+        String str4 = null;
+        int size = list.size();
+        for (int i2 = 0; i2 < size; i2++) {
+            Header header = list.get(i2);
+            ByteString byteString = header.name;
+            String utf8 = header.value.utf8();
+            if (byteString.equals(Header.TARGET_METHOD)) {
+                str = utf8;
+            } else if (byteString.equals(Header.TARGET_SCHEME)) {
+                str2 = utf8;
+            } else if (byteString.equals(Header.TARGET_AUTHORITY)) {
+                str3 = utf8;
+            } else if (byteString.equals(Header.TARGET_PATH)) {
+                str4 = utf8;
+            } else if (byteString.size() == 0 || byteString.getByte(0) != 58) {
+                builder.add(byteString.utf8(), utf8);
+            }
+        }
+        if (!"GET".equals(str) || str2 == null || str3 == null || str4 == null || !this.pathPattern.matcher(str4).matches()) {
+            return refuse();
+        }
+        try {
+            Request build = new Request.Builder().url(str2 + "://" + str3 + str4).headers(builder.build()).build();
+            synchronized (this) {
+                expireUnclaimed(System.nanoTime());
+                if (this.reservedBytes >= this.byteBudget) {
+                    this.refusedCount++;
+                    return true;
+                }
+                this.streams.put(Integer.valueOf(i), new PushedStream(build, System.currentTimeMillis()));
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            return refuse();
+        }
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.PushObserver
+    public boolean onHeaders(int i, List<Header> list, boolean z) {
+        PushedStream pushedStream;
+        synchronized (this) {
+            pushedStream = this.streams.get(Integer.valueOf(i));
+        }
+        if (pushedStream == null) {
+            return true;
+        }
+        Headers.Builder builder = new Headers.Builder();
+        String str = null;
+        int size = list.size();
+        for (int i2 = 0; i2 < size; i2++) {
+            Header header = list.get(i2);
+            ByteString byteString = header.name;
+            if (byteString.equals(Header.RESPONSE_STATUS)) {
+                str = header.value.utf8();
+            } else if (byteString.size() == 0 || byteString.getByte(0) != 58) {
+                builder.add(byteString.utf8(), header.value.utf8());
+            }
+        }
+        try {
+            if (str == null) {
+                discard(i, pushedStream);
+                return true;
+            }
+            StatusLine parse = StatusLine.parse("HTTP/1.1 " + str);
+            builder.set(OkHeaders.SENT_MILLIS, Long.toString(pushedStream.promisedMillis));
+            builder.set(OkHeaders.RECEIVED_MILLIS, Long.toString(System.currentTimeMillis()));
+            Response build = new Response.Builder().request(pushedStream.request).protocol(Protocol.HTTP_2).code(parse.code).message(parse.message).headers(builder.build()).build();
+            long contentLength = OkHeaders.contentLength(build);
+            if (!CacheStrategy.isCacheable(build, pushedStream.request) || !fitsBudget(contentLength)) {
+                discard(i, pushedStream);
+                return true;
+            }
+            CacheRequest put = this.cache.put(build);
+            if (put == null) {
+                discard(i, pushedStream);
+                return true;
+            }
+            pushedStream.cacheRequest = put;
+            pushedStream.sink = Okio.buffer(put.body());
+            if (z) {
+                complete(i, pushedStream);
+            }
+            return false;
+        } catch (IOException e) {
+            discard(i, pushedStream);
+            return true;
+        }
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.PushObserver
+    public boolean onData(int i, BufferedSource bufferedSource, int i2, boolean z) throws IOException {
+        PushedStream pushedStream;
+        boolean z2;
+        synchronized (this) {
+            pushedStream = this.streams.get(Integer.valueOf(i));
+            z2 = pushedStream != null && pushedStream.sink != null && this.reservedBytes + ((long) i2) <= this.byteBudget;
+            if (z2) {
+                this.reservedBytes += i2;
+                pushedStream.byteCount += i2;
+            }
+        }
+        if (!z2) {
+            bufferedSource.skip(i2);
+            if (pushedStream != null) {
+                discard(i, pushedStream);
+            }
+            return true;
+        }
+        Buffer buffer = new Buffer();
+        bufferedSource.readFully(buffer, i2);
+        try {
+            pushedStream.sink.write(buffer, i2);
+            if (z) {
+                complete(i, pushedStream);
+            }
+            return false;
+        } catch (IOException e) {
+            discard(i, pushedStream);
+            return true;
+        }
+    }
+
+    @Override // com.squareup.okhttp.internal.framed.PushObserver
+    public void onReset(int i, ErrorCode errorCode) {
+        PushedStream pushedStream;
+        synchronized (this) {
+            pushedStream = this.streams.get(Integer.valueOf(i));
+        }
+        if (pushedStream != null) {
+            discard(i, pushedStream);
+        }
+    }
+
+    private synchronized boolean refuse() {
+        this.refusedCount++;
+        return true;
+    }
+
+    private synchronized boolean fitsBudget(long j) {
+        if (j == -1 || this.reservedBytes + j <= this.byteBudget) {
+            return true;
+        }
+        this.refusedCount++;
+        return false;
+    }
+
+    private void complete(int i, PushedStream pushedStream) throws IOException {
+        pushedStream.sink.close();
+        synchronized (this) {
+            this.streams.remove(Integer.valueOf(i));
+            this.pushedBytes += pushedStream.byteCount;
+            String urlString = pushedStream.request.urlString();
+            PushedEntry remove = this.unclaimed.remove(urlString);
+            if (remove != null) {
+                this.reservedBytes -= remove.byteCount;
+                this.wastedBytes += remove.byteCount;
+            }
+            this.unclaimed.put(urlString, new PushedEntry(pushedStream.byteCount, System.nanoTime()));
+        }
+    }
+
+    private void discard(int i, PushedStream pushedStream) {
+        synchronized (this) {
+            if (this.streams.remove(Integer.valueOf(i)) == null) {
+                return;
+            }
+            this.reservedBytes -= pushedStream.byteCount;
+            this.pushedBytes += pushedStream.byteCount;
+            this.wastedBytes += pushedStream.byteCount;
+        }
+        if (pushedStream.cacheRequest != null) {
+            pushedStream.cacheRequest.abort();
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public synchronized void claim(String str, boolean z) {
+        PushedEntry remove = this.unclaimed.remove(str);
+        if (remove == null) {
+            return;
+        }
+        this.reservedBytes -= remove.byteCount;
+        if (z) {
+            this.usedBytes += remove.byteCount;
+        } else {
+            this.wastedBytes += remove.byteCount;
+        }
+    }
+
+    private void expireUnclaimed(long j) {
+        Iterator<PushedEntry> it = this.unclaimed.values().iterator();
+        while (it.hasNext()) {
+            PushedEntry next = it.next();
+            if (j - next.pushedNanos < UNCLAIMED_TIMEOUT_NANOS) {
+                return;
+            }
+            it.remove();
+            this.reservedBytes -= next.byteCount;
+            this.wastedBytes += next.byteCount;
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    /* loaded from: classes.dex */
+    public static final class PushedEntry {
+        final long byteCount;
+        final long pushedNanos;
+
+        PushedEntry(long j, long j2) {
+            this.byteCount = j;
+            this.pushedNanos = j2;
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    /* loaded from: classes.dex */
+    public static final class PushedStream {
+        long byteCount;
+        CacheRequest cacheRequest;
+        final long promisedMillis;
+        final Request request;
+        BufferedSink sink;
+
+        PushedStream(Request request, long j) {
+            this.request = request;
+            this.promisedMillis = j;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.squareup.okhttp.internal.framed;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.Source;
+import okio.Timeout;
+/* loaded from: classes.dex */
+public final class StreamReceiveBuffer implements Source {
+    private boolean closed;
+    private boolean finished;
+    private final long maxByteCount;
+    private final Buffer readBuffer = new Buffer();
+    private final Timeout timeout = new Timeout();
+    private long unacknowledgedBytesRead;
+
+    public StreamReceiveBuffer(long j) {
+        if (j <= 0) {
+            throw new IllegalArgumentException("maxByteCount <= 0: " + j);
+        }
+        this.maxByteCount = j;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public boolean receive(BufferedSource bufferedSource, long j) throws IOException {
+        boolean z;
+        boolean z2;
+        synchronized (this) {
+            z = this.readBuffer.size() + j > this.maxByteCount;
+            z2 = this.closed;
+        }
+        if (z || z2) {
+            bufferedSource.skip(j);
+            synchronized (this) {
+                this.unacknowledgedBytesRead += j;
+            }
+            return !z;
+        }
+        bufferedSource.require(j);
+        synchronized (this) {
+            if (this.closed) {
+                bufferedSource.skip(j);
+                this.unacknowledgedBytesRead += j;
+            } else {
+                this.readBuffer.write(bufferedSource.buffer(), j);
+                notifyAll();
+            }
+        }
+        return true;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public synchronized void finish() {
+        this.finished = true;
+        notifyAll();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public synchronized long takeUnacknowledgedBytesRead() {
+        long j = this.unacknowledgedBytesRead;
+        this.unacknowledgedBytesRead = 0L;
+        return j;
+    }
+
+    @Override // okio.Source
+    public long read(Buffer buffer, long j) throws IOException {
+        if (j < 0) {
+            throw new IllegalArgumentException("byteCount < 0: " + j);
+        }
+        synchronized (this) {
+            waitUntilReadable();
+            if (this.closed) {
+                throw new IOException("stream closed");
+            }
+            if (this.readBuffer.size() == 0) {
+                return -1L;
+            }
+            long read = this.readBuffer.read(buffer, Math.min(j, this.readBuffer.size()));
+            this.unacknowledgedBytesRead += read;
+            return read;
+        }
+    }
+
+    private void waitUntilReadable() throws IOException {
+        boolean hasDeadline = this.timeout.hasDeadline();
+        long timeoutNanos = this.timeout.timeoutNanos();
+        long nanoTime = System.nanoTime();
+        if (hasDeadline) {
+            long deadlineNanoTime = this.timeout.deadlineNanoTime() - nanoTime;
+            timeoutNanos = timeoutNanos == 0 ? deadlineNanoTime : Math.min(timeoutNanos, deadlineNanoTime);
+        }
+        boolean z = hasDeadline || timeoutNanos != 0;
+        while (this.readBuffer.size() == 0 && !this.finished && !this.closed) {
+            try {
+                if (z) {
+                    long nanoTime2 = timeoutNanos - (System.nanoTime() - nanoTime);
+                    if (nanoTime2 <= 0) {
+                        throw new InterruptedIOException("timeout");
+                    }
+                    wait(nanoTime2 / 1000000, (int) (nanoTime2 % 1000000));
+                } else {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    @Override // okio.Source
+    public Timeout timeout() {
+        return this.timeout;
+    }
+
+    @Override // okio.Source, java.io.Closeable, java.lang.AutoCloseable
+    public synchronized void close() throws IOException {
+        this.closed = true;
+        this.unacknowledgedBytesRead += this.readBuffer.size();
+        this.readBuffer.clear();
+        notifyAll();
+    }
+}
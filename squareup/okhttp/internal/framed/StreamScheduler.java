@@ -0,0 +1,206 @@
+package com.squareup.okhttp.internal.framed;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+/* loaded from: classes.dex */
+public final class StreamScheduler {
+    static final int DEFAULT_WEIGHT = 16;
+    static final int MAX_WEIGHT = 256;
+    static final int MIN_WEIGHT = 1;
+    private static final long VIRTUAL_TIME_SCALE = 65536;
+    private final FrameWriter frameWriter;
+    private final Map<Integer, Node> nodes = new HashMap();
+    private final Node root = new Node(0, DEFAULT_WEIGHT);
+
+    public StreamScheduler(FrameWriter frameWriter) {
+        this.frameWriter = frameWriter;
+    }
+
+    public void sendPriority(int i, int i2, int i3, boolean z) throws IOException {
+        priority(i, i2, i3, z);
+        FrameWriter frameWriter = this.frameWriter;
+        if (frameWriter instanceof PriorityFrameWriter) {
+            synchronized (frameWriter) {
+                ((PriorityFrameWriter) frameWriter).priority(i, i2, i3, z);
+            }
+        }
+    }
+
+    public synchronized void priority(int i, int i2, int i3, boolean z) {
+        if (i <= 0) {
+            throw new IllegalArgumentException("streamId <= 0: " + i);
+        }
+        if (i == i2) {
+            throw new IllegalArgumentException("stream " + i + " depends on itself");
+        }
+        if (i3 < MIN_WEIGHT || i3 > MAX_WEIGHT) {
+            throw new IllegalArgumentException("weight out of range: " + i3);
+        }
+        Node node = this.nodes.get(Integer.valueOf(i2));
+        if (node == null) {
+            node = this.root;
+            if (i2 != 0) {
+                i3 = DEFAULT_WEIGHT;
+                z = false;
+            }
+        }
+        Node node2 = this.nodes.get(Integer.valueOf(i));
+        if (node2 == null) {
+            node2 = new Node(i, i3);
+            this.nodes.put(Integer.valueOf(i), node2);
+        } else {
+            if (isAncestor(node2, node)) {
+                move(node, node2.parent, node.weight);
+            }
+            detach(node2);
+            node2.weight = i3;
+        }
+        if (z) {
+            List<Node> list = node.children;
+            Node[] nodeArr = (Node[]) list.toArray(new Node[list.size()]);
+            for (Node node3 : nodeArr) {
+                move(node3, node2, node3.weight);
+            }
+        }
+        attach(node2, node);
+    }
+
+    public synchronized void setReady(int i, boolean z) {
+        Node node = this.nodes.get(Integer.valueOf(i));
+        if (node == null) {
+            if (!z) {
+                return;
+            }
+            node = new Node(i, DEFAULT_WEIGHT);
+            this.nodes.put(Integer.valueOf(i), node);
+            attach(node, this.root);
+        }
+        if (node.ready == z) {
+            return;
+        }
+        node.ready = z;
+        addActive(node, z ? 1 : -1);
+    }
+
+    public synchronized int nextStream() {
+        Node node = this.root;
+        if (node.activeCount == 0) {
+            return -1;
+        }
+        while (!node.ready) {
+            Node node2 = null;
+            List<Node> list = node.children;
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                Node node3 = list.get(i);
+                if (node3.activeCount > 0 && (node2 == null || node3.virtualTime < node2.virtualTime || (node3.virtualTime == node2.virtualTime && node3.streamId < node2.streamId))) {
+                    node2 = node3;
+                }
+            }
+            node = node2;
+        }
+        return node.streamId;
+    }
+
+    public synchronized void bytesWritten(int i, int i2) {
+        Node node = this.nodes.get(Integer.valueOf(i));
+        if (node == null || i2 <= 0) {
+            return;
+        }
+        while (node.parent != null) {
+            node.parent.clock = node.virtualTime;
+            node.virtualTime += Math.max(1L, (i2 * VIRTUAL_TIME_SCALE) / node.weight);
+            node = node.parent;
+        }
+    }
+
+    public synchronized void close(int i) {
+        Node remove = this.nodes.remove(Integer.valueOf(i));
+        if (remove == null) {
+            return;
+        }
+        if (remove.ready) {
+            remove.ready = false;
+            addActive(remove, -1);
+        }
+        Node node = remove.parent;
+        List<Node> list = remove.children;
+        Node[] nodeArr = (Node[]) list.toArray(new Node[list.size()]);
+        int i2 = 0;
+        for (Node node2 : nodeArr) {
+            i2 += node2.weight;
+        }
+        for (Node node3 : nodeArr) {
+            move(node3, node, Math.max(MIN_WEIGHT, (remove.weight * node3.weight) / i2));
+        }
+        detach(remove);
+    }
+
+    private void move(Node node, Node node2, int i) {
+        detach(node);
+        node.weight = i;
+        attach(node, node2);
+    }
+
+    private void detach(Node node) {
+        Node node2 = node.parent;
+        if (node2 == null) {
+            return;
+        }
+        if (node.activeCount > 0) {
+            addActive(node2, -node.activeCount);
+        }
+        node2.children.remove(node);
+        node.parent = null;
+    }
+
+    private void attach(Node node, Node node2) {
+        node.parent = node2;
+        node.virtualTime = node2.clock;
+        node2.children.add(node);
+        if (node.activeCount > 0) {
+            addActive(node2, node.activeCount);
+        }
+    }
+
+    private static void addActive(Node node, int i) {
+        while (node != null) {
+            int i2 = node.activeCount;
+            node.activeCount = i2 + i;
+            if (i2 == 0 && node.activeCount > 0 && node.parent != null) {
+                node.virtualTime = Math.max(node.virtualTime, node.parent.clock);
+            }
+            node = node.parent;
+        }
+    }
+
+    private static boolean isAncestor(Node node, Node node2) {
+        for (Node node3 = node2.parent; node3 != null; node3 = node3.parent) {
+            if (node3 == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    /* loaded from: classes.dex */
+    public static final class Node {
+        int activeCount;
+        final List<Node> children = new ArrayList();
+        long clock;
+        Node parent;
+        boolean ready;
+        final int streamId;
+        long virtualTime;
+        int weight;
+
+        Node(int i, int i2) {
+            this.streamId = i;
+            this.weight = i2;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.squareup.okhttp.internal.framed;
+
+import com.squareup.okhttp.internal.NamedRunnable;
+import com.squareup.okhttp.internal.Util;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+/* loaded from: classes.dex */
+public final class WindowAutoTuner {
+    static final int BDP_PING_PAYLOAD = 1111773217;
+    static final int DEFAULT_MAX_WINDOW_SIZE = 4194304;
+    private static final int GROWTH_FACTOR = 2;
+    private static final ExecutorService WRITER = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue(), Util.threadFactory("OkHttp WindowAutoTuner Writer", true));
+    private long bandwidth;
+    private long bytesSinceProbe;
+    private final FrameWriter frameWriter;
+    private final int maxWindowSize;
+    private final Settings okHttpSettings;
+    private Ping probe;
+    private int probeSequence;
+    private long smoothedRoundTripTime;
+    private int windowSize;
+    private final Executor writeExecutor;
+
+    public WindowAutoTuner(Settings settings, FrameWriter frameWriter) {
+        this(settings, frameWriter, DEFAULT_MAX_WINDOW_SIZE);
+    }
+
+    public WindowAutoTuner(Settings settings, FrameWriter frameWriter, int i) {
+        this(settings, frameWriter, i, WRITER);
+    }
+
+    public WindowAutoTuner(Settings settings, FrameWriter frameWriter, int i, Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("writeExecutor == null");
+        }
+        int initialWindowSize = settings.getInitialWindowSize(Settings.DEFAULT_INITIAL_WINDOW_SIZE);
+        if (i < initialWindowSize) {
+            throw new IllegalArgumentException("maxWindowSize < " + initialWindowSize + ": " + i);
+        }
+        this.okHttpSettings = settings;
+        this.frameWriter = frameWriter;
+        this.maxWindowSize = i;
+        this.windowSize = initialWindowSize;
+        this.writeExecutor = executor;
+    }
+
+    public synchronized int windowSize() {
+        return this.windowSize;
+    }
+
+    public synchronized long smoothedRoundTripTime(TimeUnit timeUnit) {
+        return timeUnit.convert(this.smoothedRoundTripTime, TimeUnit.NANOSECONDS);
+    }
+
+    public synchronized long bandwidth() {
+        return this.bandwidth;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void dataReceived(int i) throws IOException {
+        if (i <= 0) {
+            return;
+        }
+        synchronized (this) {
+            this.bytesSinceProbe += i;
+            if (this.probe != null || this.windowSize >= this.maxWindowSize) {
+                return;
+            }
+            Ping ping = new Ping();
+            ping.send();
+            this.probe = ping;
+            this.bytesSinceProbe = i;
+            final int i2 = this.probeSequence + 1;
+            this.probeSequence = i2;
+            this.writeExecutor.execute(new NamedRunnable("OkHttp WindowAutoTuner ping %08x", Integer.valueOf(i2)) { // from class: com.squareup.okhttp.internal.framed.WindowAutoTuner.1
+                @Override // com.squareup.okhttp.internal.NamedRunnable
+                public void execute() {
+                    try {
+                        synchronized (WindowAutoTuner.this.frameWriter) {
+                            WindowAutoTuner.this.frameWriter.ping(false, WindowAutoTuner.BDP_PING_PAYLOAD, i2);
+                            WindowAutoTuner.this.frameWriter.flush();
+                        }
+                    } catch (IOException e) {
+                        WindowAutoTuner.this.cancel();
+                    }
+                }
+            });
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public boolean pingAcknowledged(int i, int i2) throws IOException {
+        if (i != BDP_PING_PAYLOAD) {
+            return false;
+        }
+        synchronized (this) {
+            Ping ping = this.probe;
+            if (ping == null || i2 != this.probeSequence) {
+                return true;
+            }
+            this.probe = null;
+            ping.receive();
+            long roundTripTime = roundTripTime(ping);
+            if (roundTripTime <= 0) {
+                return true;
+            }
+            long j = this.smoothedRoundTripTime;
+            this.smoothedRoundTripTime = j == 0 ? roundTripTime : ((j * 7) + roundTripTime) / 8;
+            long j2 = this.bytesSinceProbe;
+            this.bytesSinceProbe = 0L;
+            long nanos = (TimeUnit.SECONDS.toNanos(1L) * j2) / roundTripTime;
+            if (nanos < this.bandwidth) {
+                return true;
+            }
+            this.bandwidth = nanos;
+            if (j2 * 3 < ((long) this.windowSize) * 2) {
+                return true;
+            }
+            int min = (int) Math.min(this.maxWindowSize, j2 * GROWTH_FACTOR);
+            int i3 = this.windowSize;
+            if (min <= i3) {
+                return true;
+            }
+            this.windowSize = min;
+            final Settings settings = new Settings();
+            settings.set(Settings.INITIAL_WINDOW_SIZE, 0, min);
+            this.okHttpSettings.merge(settings);
+            final long j3 = min - i3;
+            this.writeExecutor.execute(new NamedRunnable("OkHttp WindowAutoTuner window %d", Integer.valueOf(min)) { // from class: com.squareup.okhttp.internal.framed.WindowAutoTuner.2
+                @Override // com.squareup.okhttp.internal.NamedRunnable
+                public void execute() {
+                    try {
+                        synchronized (WindowAutoTuner.this.frameWriter) {
+                            WindowAutoTuner.this.frameWriter.settings(settings);
+                            WindowAutoTuner.this.frameWriter.windowUpdate(0, j3);
+                            WindowAutoTuner.this.frameWriter.flush();
+                        }
+                    } catch (IOException e) {
+                    }
+                }
+            });
+            return true;
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public synchronized void cancel() {
+        Ping ping = this.probe;
+        if (ping != null) {
+            this.probe = null;
+            ping.cancel();
+        }
+    }
+
+    private static long roundTripTime(Ping ping) {
+        try {
+            return ping.roundTripTime(0L, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1L;
+        }
+    }
+}
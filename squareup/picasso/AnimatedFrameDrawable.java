@@ -0,0 +1,181 @@
+package com.squareup.picasso;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.drawable.Animatable;
+import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class AnimatedFrameDrawable extends Drawable implements Animatable, Runnable {
+    private Bitmap backBuffer;
+    private final int[] delays;
+    private Bitmap frame;
+    private int frameIndex;
+    private final Bitmap[] frames;
+    private final String key;
+    private final Paint paint = new Paint(6);
+    private final AnimatedImagePipeline pipeline;
+    private int remainingFrames;
+    private boolean rendering;
+    private boolean running;
+    private AnimatedFrameSource source;
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public AnimatedFrameDrawable(AnimatedImagePipeline animatedImagePipeline, AnimatedFrameSource animatedFrameSource, String str, int[] iArr, Bitmap bitmap, Bitmap[] bitmapArr) {
+        this.pipeline = animatedImagePipeline;
+        this.source = animatedFrameSource;
+        this.key = str;
+        this.delays = iArr;
+        this.frame = bitmap;
+        this.frames = bitmapArr;
+        if (bitmapArr != null) {
+            for (Bitmap bitmap2 : bitmapArr) {
+                if (bitmap2 == null) {
+                    this.remainingFrames++;
+                }
+            }
+            if (this.remainingFrames == 0) {
+                this.source = null;
+            }
+        }
+    }
+
+    @Override // android.graphics.drawable.Drawable
+    public void draw(Canvas canvas) {
+        Bitmap bitmap = this.frame;
+        if (bitmap != null) {
+            canvas.drawBitmap(bitmap, null, getBounds(), this.paint);
+        }
+    }
+
+    @Override // android.graphics.drawable.Drawable
+    public int getIntrinsicWidth() {
+        return this.frame.getWidth();
+    }
+
+    @Override // android.graphics.drawable.Drawable
+    public int getIntrinsicHeight() {
+        return this.frame.getHeight();
+    }
+
+    @Override // android.graphics.drawable.Drawable
+    public void setAlpha(int i) {
+        this.paint.setAlpha(i);
+        invalidateSelf();
+    }
+
+    @Override // android.graphics.drawable.Drawable
+    public void setColorFilter(ColorFilter colorFilter) {
+        this.paint.setColorFilter(colorFilter);
+        invalidateSelf();
+    }
+
+    @Override // android.graphics.drawable.Drawable
+    public int getOpacity() {
+        return -3;
+    }
+
+    @Override // android.graphics.drawable.Drawable
+    public boolean setVisible(boolean z, boolean z2) {
+        boolean visible = super.setVisible(z, z2);
+        if (z) {
+            scheduleNextFrame();
+        } else {
+            unscheduleSelf(this);
+        }
+        return visible;
+    }
+
+    @Override // android.graphics.drawable.Animatable
+    public void start() {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        scheduleNextFrame();
+    }
+
+    @Override // android.graphics.drawable.Animatable
+    public void stop() {
+        this.running = false;
+        unscheduleSelf(this);
+    }
+
+    @Override // android.graphics.drawable.Animatable
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    @Override // java.lang.Runnable
+    public void run() {
+        if (!this.running || !isVisible() || this.rendering) {
+            return;
+        }
+        int length = (this.frameIndex + 1) % this.delays.length;
+        Bitmap[] bitmapArr = this.frames;
+        if (bitmapArr != null) {
+            Bitmap bitmap = bitmapArr[length];
+            if (bitmap == null && (bitmap = this.pipeline.cachedFrame(this.key, length)) != null) {
+                storeFrame(length, bitmap);
+            }
+            if (bitmap != null) {
+                showFrame(length, bitmap);
+                return;
+            }
+        }
+        if (this.source == null) {
+            return;
+        }
+        this.rendering = true;
+        this.pipeline.renderFrame(this, this.source, this.key, length, this.frames != null ? null : this.backBuffer, this.frames != null);
+        this.backBuffer = null;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void onFrameRendered(int i, Bitmap bitmap) {
+        this.rendering = false;
+        if (bitmap == null) {
+            this.running = false;
+            return;
+        }
+        if (this.frames != null) {
+            storeFrame(i, bitmap);
+        }
+        showFrame(i, bitmap);
+    }
+
+    private void storeFrame(int i, Bitmap bitmap) {
+        Bitmap[] bitmapArr = this.frames;
+        if (bitmapArr[i] != null) {
+            return;
+        }
+        bitmapArr[i] = bitmap;
+        int i2 = this.remainingFrames - 1;
+        this.remainingFrames = i2;
+        if (i2 == 0) {
+            this.source = null;
+        }
+    }
+
+    private void showFrame(int i, Bitmap bitmap) {
+        Bitmap bitmap2 = this.frame;
+        this.frame = bitmap;
+        this.frameIndex = i;
+        if (this.frames == null) {
+            this.backBuffer = bitmap2;
+        }
+        invalidateSelf();
+        scheduleNextFrame();
+    }
+
+    private void scheduleNextFrame() {
+        if (!this.running || !isVisible() || this.rendering || this.delays.length <= 1) {
+            return;
+        }
+        unscheduleSelf(this);
+        scheduleSelf(this, SystemClock.uptimeMillis() + this.delays[this.frameIndex]);
+    }
+}
@@ -0,0 +1,67 @@
+package com.squareup.picasso;
+
+import android.graphics.Bitmap;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class AnimatedFrameSource {
+    private final GifDecoder decoder;
+    final int[] delays;
+    final int height;
+    private final Request request;
+    private Bitmap scratch;
+    final int width;
+
+    private AnimatedFrameSource(GifDecoder gifDecoder, Request request) {
+        this.decoder = gifDecoder;
+        this.request = request;
+        this.width = gifDecoder.width;
+        this.height = gifDecoder.height;
+        this.delays = gifDecoder.delays();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public static AnimatedFrameSource decode(byte[] bArr, Request request) {
+        GifDecoder parse = GifDecoder.parse(bArr);
+        if (parse == null || parse.frameCount() < 2) {
+            return null;
+        }
+        return new AnimatedFrameSource(parse, request);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public int frameCount() {
+        return this.delays.length;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public synchronized Bitmap render(int i, Bitmap bitmap) {
+        int[] render = this.decoder.render(i);
+        if (!this.request.needsTransformation()) {
+            if (bitmap == null || bitmap.isRecycled()) {
+                bitmap = createFrameBitmap();
+            }
+            bitmap.setPixels(render, 0, this.width, 0, 0, this.width, this.height);
+            return bitmap;
+        }
+        Bitmap bitmap2 = this.scratch;
+        if (bitmap2 == null || bitmap2.isRecycled()) {
+            this.scratch = createFrameBitmap();
+        }
+        this.scratch.setPixels(render, 0, this.width, 0, 0, this.width, this.height);
+        Bitmap bitmap3 = this.scratch;
+        if (this.request.needsMatrixTransform()) {
+            bitmap3 = BitmapHunter.transformResult(this.request, bitmap3, 0);
+        }
+        if (this.request.hasCustomTransformations() && bitmap3 != null) {
+            bitmap3 = BitmapHunter.applyCustomTransformations(this.request.transformations, bitmap3);
+        }
+        if (bitmap3 == this.scratch) {
+            this.scratch = null;
+        }
+        return bitmap3;
+    }
+
+    private Bitmap createFrameBitmap() {
+        return Bitmap.createBitmap(this.width, this.height, Bitmap.Config.ARGB_8888);
+    }
+}
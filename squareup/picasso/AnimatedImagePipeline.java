@@ -0,0 +1,380 @@
+package com.squareup.picasso;
+
+import android.graphics.Bitmap;
+import android.graphics.ImageDecoder;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.widget.ImageView;
+import com.squareup.picasso.Picasso;
+import com.squareup.picasso.RequestHandler;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class AnimatedImagePipeline {
+    private static final int ANIMATION_HEADER_SIZE = 21;
+    private static final int FRAME_DELAYS_CACHE_SIZE = 64;
+    private static final int MAX_ANIMATION_CACHE_FRACTION = 4;
+    private static final int MAX_ANIMATION_SIZE = 16777216;
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, new Utils.PicassoThreadFactory());
+    private final Map<String, int[]> frameDelays = new LinkedHashMap<String, int[]>(0, 0.75f, true) { // from class: com.squareup.picasso.AnimatedImagePipeline.1
+        @Override // java.util.LinkedHashMap
+        protected boolean removeEldestEntry(Map.Entry<String, int[]> entry) {
+            return size() > AnimatedImagePipeline.FRAME_DELAYS_CACHE_SIZE;
+        }
+    };
+    private final Picasso picasso;
+    private final TargetRegistry<Load> targetToLoad = new TargetRegistry<>();
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public AnimatedImagePipeline(Picasso picasso) {
+        this.picasso = picasso;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void load(RequestCreator requestCreator, ImageView imageView, Callback callback, Request request, String str, int i, int i2) {
+        Load load = new Load(requestCreator, imageView, callback, request, str, i, i2);
+        this.targetToLoad.put(imageView, load, null);
+        this.executor.execute(load);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public AnimatedFrameDrawable cachedDrawable(String str) {
+        int[] iArr;
+        synchronized (this.frameDelays) {
+            iArr = this.frameDelays.get(str);
+        }
+        if (iArr == null) {
+            return null;
+        }
+        Bitmap[] bitmapArr = new Bitmap[iArr.length];
+        for (int i = 0; i < bitmapArr.length; i++) {
+            Bitmap bitmap = this.picasso.cache.get(frameKey(str, i));
+            if (bitmap == null) {
+                return null;
+            }
+            bitmapArr[i] = bitmap;
+        }
+        this.picasso.stats.dispatchAnimatedFrameCacheHit();
+        return new AnimatedFrameDrawable(this, null, str, iArr, bitmapArr[0], bitmapArr);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public Bitmap cachedFrame(String str, int i) {
+        Bitmap bitmap = this.picasso.cache.get(frameKey(str, i));
+        if (bitmap != null) {
+            this.picasso.stats.dispatchAnimatedFrameCacheHit();
+        }
+        return bitmap;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void renderFrame(final AnimatedFrameDrawable animatedFrameDrawable, final AnimatedFrameSource animatedFrameSource, final String str, final int i, final Bitmap bitmap, final boolean z) {
+        try {
+            this.executor.execute(new Runnable() { // from class: com.squareup.picasso.AnimatedImagePipeline.2
+                @Override // java.lang.Runnable
+                public void run() {
+                    final Bitmap renderFrame = AnimatedImagePipeline.this.renderFrame(animatedFrameSource, str, i, bitmap, z);
+                    Picasso.HANDLER.post(new Runnable() { // from class: com.squareup.picasso.AnimatedImagePipeline.2.1
+                        @Override // java.lang.Runnable
+                        public void run() {
+                            animatedFrameDrawable.onFrameRendered(i, renderFrame);
+                        }
+                    });
+                }
+            });
+        } catch (RejectedExecutionException unused) {
+            animatedFrameDrawable.onFrameRendered(i, null);
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void cancel(ImageView imageView) {
+        Load remove = this.targetToLoad.remove(imageView);
+        if (remove != null) {
+            remove.token.cancel();
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void shutdown() {
+        List<Load> values = this.targetToLoad.values();
+        int size = values.size();
+        for (int i = 0; i < size; i++) {
+            Load load = values.get(i);
+            load.token.cancel();
+        }
+        this.targetToLoad.clear();
+        this.executor.shutdown();
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public Bitmap renderFrame(AnimatedFrameSource animatedFrameSource, String str, int i, Bitmap bitmap, boolean z) {
+        Bitmap render = animatedFrameSource.render(i, bitmap);
+        if (render == null) {
+            return null;
+        }
+        this.picasso.stats.dispatchAnimatedFrameDecoded();
+        if (z) {
+            this.picasso.cache.set(frameKey(str, i), render);
+        }
+        return render;
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public boolean shouldCacheFrames(AnimatedFrameSource animatedFrameSource, Bitmap bitmap) {
+        return ((long) Utils.getBitmapBytes(bitmap)) * ((long) animatedFrameSource.frameCount()) <= ((long) (this.picasso.cache.maxSize() / MAX_ANIMATION_CACHE_FRACTION));
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public void deliver(Load load) {
+        ImageView imageView = load.target.get();
+        if (load.token.isCancelled() || imageView == null || this.targetToLoad.get(imageView) != load) {
+            return;
+        }
+        this.targetToLoad.remove(imageView);
+        if (load.source != null) {
+            AnimatedFrameSource animatedFrameSource = load.source;
+            Bitmap[] bitmapArr = null;
+            if (load.cacheFrames) {
+                bitmapArr = new Bitmap[animatedFrameSource.frameCount()];
+                bitmapArr[0] = load.firstFrame;
+            }
+            load.creator.completeAnimated(imageView, load.callback, new AnimatedFrameDrawable(this, animatedFrameSource, load.key, animatedFrameSource.delays, load.firstFrame, bitmapArr), null, load.loadedFrom);
+        } else if (load.drawable != null || load.bitmap != null) {
+            load.creator.completeAnimated(imageView, load.callback, load.drawable, load.bitmap, load.loadedFrom);
+        } else {
+            load.creator.errorAnimated(imageView, load.callback);
+        }
+    }
+
+    private static String frameKey(String str, int i) {
+        return str + "frame:" + i + '\n';
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    /* loaded from: classes.dex */
+    public final class Load implements Runnable {
+        Bitmap bitmap;
+        boolean cacheFrames;
+        final Callback callback;
+        final RequestCreator creator;
+        Drawable drawable;
+        Bitmap firstFrame;
+        final String key;
+        Picasso.LoadedFrom loadedFrom;
+        final int memoryPolicy;
+        final int networkPolicy;
+        final Request request;
+        AnimatedFrameSource source;
+        final WeakReference<ImageView> target;
+        final CancellationToken token = new CancellationToken();
+
+        Load(RequestCreator requestCreator, ImageView imageView, Callback callback, Request request, String str, int i, int i2) {
+            this.creator = requestCreator;
+            this.target = new WeakReference<>(imageView);
+            this.callback = callback;
+            this.request = request;
+            this.key = str;
+            this.memoryPolicy = i;
+            this.networkPolicy = i2;
+        }
+
+        @Override // java.lang.Runnable
+        public void run() {
+            if (this.token.isCancelled()) {
+                return;
+            }
+            try {
+                decode();
+            } catch (IOException | RuntimeException e) {
+                if (AnimatedImagePipeline.this.picasso.loggingEnabled) {
+                    Utils.log("Hunter", "errored", this.request.logId(), e.toString());
+                }
+                this.source = null;
+                this.drawable = null;
+                this.bitmap = null;
+            }
+            if (this.token.isCancelled()) {
+                return;
+            }
+            Picasso.HANDLER.post(new Runnable() { // from class: com.squareup.picasso.AnimatedImagePipeline.Load.1
+                @Override // java.lang.Runnable
+                public void run() {
+                    AnimatedImagePipeline.this.deliver(Load.this);
+                }
+            });
+        }
+
+        private void decode() throws IOException {
+            RequestHandler.Result load = loadResult();
+            this.loadedFrom = load.getLoadedFrom();
+            int exifOrientation = load.getExifOrientation();
+            if (load.getBitmap() != null) {
+                this.bitmap = finishStill(load.getBitmap(), exifOrientation);
+                return;
+            }
+            MarkableInputStream markableInputStream = new MarkableInputStream(CancellableInputStream.wrap(load.getStream(), this.request, this.token));
+            try {
+                long savePosition = markableInputStream.savePosition(ANIMATION_HEADER_SIZE);
+                byte[] readHeader = readHeader(markableInputStream);
+                markableInputStream.reset(savePosition);
+                boolean z = Build.VERSION.SDK_INT >= 28 && this.request.rotationDegrees == 0.0f && !this.request.hasCustomTransformations();
+                if (Utils.isGifFile(readHeader)) {
+                    byte[] readAnimation = readAnimation(markableInputStream);
+                    if (z) {
+                        this.drawable = decodeDrawable(readAnimation);
+                        return;
+                    }
+                    this.source = AnimatedFrameSource.decode(readAnimation, this.request);
+                    if (this.source != null) {
+                        decodeFirstFrame();
+                        return;
+                    }
+                    this.bitmap = decodeStill(new ByteArrayInputStream(readAnimation), exifOrientation);
+                } else if (Utils.isAnimatedWebPFile(readHeader) && z) {
+                    this.drawable = decodeDrawable(readAnimation(markableInputStream));
+                } else {
+                    this.bitmap = decodeStill(markableInputStream, exifOrientation);
+                }
+            } finally {
+                Utils.closeQuietly(markableInputStream);
+            }
+        }
+
+        private RequestHandler.Result loadResult() throws IOException {
+            List<RequestHandler> requestHandlers = AnimatedImagePipeline.this.picasso.getRequestHandlers();
+            int size = requestHandlers.size();
+            for (int i = 0; i < size; i++) {
+                RequestHandler requestHandler = requestHandlers.get(i);
+                if (requestHandler.canHandleRequest(this.request)) {
+                    this.token.throwIfCancelled(this.request);
+                    RequestHandler.Result load = requestHandler.load(this.request, this.networkPolicy);
+                    if (load != null) {
+                        return load;
+                    }
+                    throw new IOException("No result for " + this.request);
+                }
+            }
+            throw new IllegalStateException("Unrecognized type of request: " + this.request);
+        }
+
+        private void decodeFirstFrame() throws IOException {
+            this.firstFrame = AnimatedImagePipeline.this.renderFrame(this.source, this.key, 0, null, false);
+            if (this.firstFrame == null) {
+                throw new IOException("Failed to render first frame of " + this.request.plainId());
+            }
+            boolean z = MemoryPolicy.shouldWriteToMemoryCache(this.memoryPolicy) && AnimatedImagePipeline.this.shouldCacheFrames(this.source, this.firstFrame);
+            this.cacheFrames = z;
+            if (z) {
+                AnimatedImagePipeline.this.picasso.cache.set(AnimatedImagePipeline.frameKey(this.key, 0), this.firstFrame);
+                synchronized (AnimatedImagePipeline.this.frameDelays) {
+                    AnimatedImagePipeline.this.frameDelays.put(this.key, this.source.delays);
+                }
+            }
+        }
+
+        private Drawable decodeDrawable(byte[] bArr) throws IOException {
+            return ImageDecoder.decodeDrawable(ImageDecoder.createSource(ByteBuffer.wrap(bArr)), new ImageDecoder.OnHeaderDecodedListener() { // from class: com.squareup.picasso.AnimatedImagePipeline.Load.2
+                @Override // android.graphics.ImageDecoder.OnHeaderDecodedListener
+                public void onHeaderDecoded(ImageDecoder imageDecoder, ImageDecoder.ImageInfo imageInfo, ImageDecoder.Source source) {
+                    Load.this.applyTargetSize(imageDecoder, imageInfo.getSize().getWidth(), imageInfo.getSize().getHeight());
+                }
+            });
+        }
+
+        /* JADX INFO: Access modifiers changed from: private */
+        public void applyTargetSize(ImageDecoder imageDecoder, int i, int i2) {
+            Request request = this.request;
+            int i3 = request.targetWidth;
+            int i4 = request.targetHeight;
+            if (!request.hasSize()) {
+                return;
+            }
+            if (request.onlyScaleDown && i <= i3 && i2 <= i4) {
+                return;
+            }
+            if (request.centerCrop) {
+                float max = Math.max(i3 / (float) i, i4 / (float) i2);
+                int ceil = (int) Math.ceil(i * max);
+                int ceil2 = (int) Math.ceil(i2 * max);
+                imageDecoder.setTargetSize(ceil, ceil2);
+                int i5 = (ceil - i3) / 2;
+                int i6 = (ceil2 - i4) / 2;
+                imageDecoder.setCrop(new Rect(i5, i6, i5 + i3, i6 + i4));
+            } else if (request.centerInside) {
+                float min = Math.min(i3 / (float) i, i4 / (float) i2);
+                imageDecoder.setTargetSize(Math.max(1, Math.round(i * min)), Math.max(1, Math.round(i2 * min)));
+            } else {
+                if (i3 == 0) {
+                    i3 = Math.max(1, Math.round((i * i4) / (float) i2));
+                }
+                if (i4 == 0) {
+                    i4 = Math.max(1, Math.round((i2 * i3) / (float) i));
+                }
+                imageDecoder.setTargetSize(i3, i4);
+            }
+        }
+
+        private Bitmap decodeStill(InputStream inputStream, int i) throws IOException {
+            return finishStill(BitmapHunter.decodeStream(inputStream, this.request), i);
+        }
+
+        private Bitmap finishStill(Bitmap bitmap, int i) {
+            if (bitmap == null) {
+                return null;
+            }
+            AnimatedImagePipeline.this.picasso.stats.dispatchBitmapDecoded(bitmap);
+            if (this.request.needsMatrixTransform() || i != 0) {
+                bitmap = BitmapHunter.transformResult(this.request, bitmap, i);
+            }
+            if (this.request.hasCustomTransformations()) {
+                bitmap = BitmapHunter.applyCustomTransformations(this.request.transformations, bitmap);
+            }
+            if (bitmap != null && MemoryPolicy.shouldWriteToMemoryCache(this.memoryPolicy)) {
+                AnimatedImagePipeline.this.picasso.cache.set(this.key, bitmap);
+            }
+            return bitmap;
+        }
+
+        private byte[] readHeader(InputStream inputStream) throws IOException {
+            byte[] bArr = new byte[ANIMATION_HEADER_SIZE];
+            int i = 0;
+            while (i < bArr.length) {
+                int read = inputStream.read(bArr, i, bArr.length - i);
+                if (read == -1) {
+                    break;
+                }
+                i += read;
+            }
+            return i == bArr.length ? bArr : Arrays.copyOf(bArr, i);
+        }
+
+        private byte[] readAnimation(InputStream inputStream) throws IOException {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            byte[] bArr = new byte[4096];
+            while (true) {
+                int read = inputStream.read(bArr);
+                if (read == -1) {
+                    return byteArrayOutputStream.toByteArray();
+                }
+                if (byteArrayOutputStream.size() + read > MAX_ANIMATION_SIZE) {
+                    throw new IOException("Animated image " + this.request.plainId() + " exceeds " + MAX_ANIMATION_SIZE + " bytes.");
+                }
+                byteArrayOutputStream.write(bArr, 0, read);
+            }
+        }
+    }
+}
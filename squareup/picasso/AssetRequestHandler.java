@@ -1,11 +1,15 @@
 package com.squareup.picasso;
 
 import android.content.Context;
+import android.content.res.AssetFileDescriptor;
 import android.content.res.AssetManager;
 import android.net.Uri;
 import com.squareup.picasso.Picasso;
 import com.squareup.picasso.RequestHandler;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
 /* JADX INFO: Access modifiers changed from: package-private */
 /* loaded from: classes.dex */
 public class AssetRequestHandler extends RequestHandler {
@@ -25,7 +29,38 @@ public class AssetRequestHandler extends RequestHandler {
 
     @Override // com.squareup.picasso.RequestHandler
     public RequestHandler.Result load(Request request, int i) throws IOException {
-        return new RequestHandler.Result(this.assetManager.open(getFilePath(request)), Picasso.LoadedFrom.DISK);
+        String filePath = getFilePath(request);
+        InputStream openMapped = openMapped(filePath);
+        if (openMapped == null) {
+            openMapped = this.assetManager.open(filePath);
+        }
+        return new RequestHandler.Result(openMapped, Picasso.LoadedFrom.DISK);
+    }
+
+    private InputStream openMapped(String str) {
+        AssetFileDescriptor assetFileDescriptor;
+        try {
+            assetFileDescriptor = this.assetManager.openFd(str);
+        } catch (IOException unused) {
+            return null;
+        }
+        FileInputStream fileInputStream = null;
+        try {
+            long length = assetFileDescriptor.getLength();
+            if (length <= 0 || length > 2147483647L) {
+                return null;
+            }
+            fileInputStream = new FileInputStream(assetFileDescriptor.getFileDescriptor());
+            return new ByteBufferInputStream(fileInputStream.getChannel().map(FileChannel.MapMode.READ_ONLY, assetFileDescriptor.getStartOffset(), length));
+        } catch (IOException unused2) {
+            return null;
+        } finally {
+            Utils.closeQuietly(fileInputStream);
+            try {
+                assetFileDescriptor.close();
+            } catch (IOException unused3) {
+            }
+        }
     }
 
     static String getFilePath(Request request) {
@@ -0,0 +1,128 @@
+package com.squareup.picasso;
+
+import android.widget.ImageView;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class AsyncRequestBinder {
+    private static final int RESOLVED_KEY_CACHE_SIZE = 256;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(new Utils.PicassoThreadFactory());
+    private final StringBuilder keyBuilder = new StringBuilder();
+    private final Map<String, String> resolvedKeys = new LinkedHashMap<String, String>(32, 0.75f, true) { // from class: com.squareup.picasso.AsyncRequestBinder.1
+        @Override // java.util.LinkedHashMap
+        protected boolean removeEldestEntry(Map.Entry<String, String> entry) {
+            return size() > AsyncRequestBinder.RESOLVED_KEY_CACHE_SIZE;
+        }
+    };
+    private final Map<ImageView, Binding> targetToBinding = new WeakHashMap();
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public String resolvedKey(String str) {
+        return this.resolvedKeys.get(str);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void bind(RequestCreator requestCreator, ImageView imageView, Callback callback, Request request, String str, String str2, long j) {
+        Binding binding = new Binding(requestCreator, imageView, callback, request, str, str2, j);
+        this.targetToBinding.put(imageView, binding);
+        this.executor.execute(binding);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void cancel(ImageView imageView) {
+        Binding remove = this.targetToBinding.remove(imageView);
+        if (remove != null) {
+            remove.cancelled = true;
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void cancelTag(Object obj) {
+        ArrayList arrayList = new ArrayList(this.targetToBinding.values());
+        int size = arrayList.size();
+        for (int i = 0; i < size; i++) {
+            Binding binding = (Binding) arrayList.get(i);
+            ImageView imageView = binding.target.get();
+            if (imageView != null && obj.equals(binding.creator.getTag())) {
+                cancel(imageView);
+            }
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void shutdown() {
+        for (Binding binding : this.targetToBinding.values()) {
+            binding.cancelled = true;
+        }
+        this.targetToBinding.clear();
+        this.executor.shutdown();
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    public void complete(Binding binding) {
+        ImageView imageView = binding.target.get();
+        if (binding.cancelled || imageView == null || this.targetToBinding.get(imageView) != binding) {
+            return;
+        }
+        this.targetToBinding.remove(imageView);
+        this.resolvedKeys.put(binding.precomputedKey, binding.key);
+        binding.creator.completeAsyncBinding(imageView, binding.callback, binding.resolved, binding.key, !binding.key.equals(binding.checkedKey));
+    }
+
+    /* JADX INFO: Access modifiers changed from: private */
+    /* loaded from: classes.dex */
+    public final class Binding implements Runnable {
+        final Callback callback;
+        volatile boolean cancelled;
+        final String checkedKey;
+        final RequestCreator creator;
+        String key;
+        final String precomputedKey;
+        final Request request;
+        Request resolved;
+        final long started;
+        final WeakReference<ImageView> target;
+
+        Binding(RequestCreator requestCreator, ImageView imageView, Callback callback, Request request, String str, String str2, long j) {
+            this.creator = requestCreator;
+            this.target = new WeakReference<>(imageView);
+            this.callback = callback;
+            this.request = request;
+            this.precomputedKey = str;
+            this.checkedKey = str2;
+            this.started = j;
+        }
+
+        @Override // java.lang.Runnable
+        public void run() {
+            if (this.cancelled) {
+                return;
+            }
+            try {
+                this.resolved = this.creator.createRequest(this.request, this.started);
+                this.key = Utils.createKey(this.resolved, AsyncRequestBinder.this.keyBuilder);
+                AsyncRequestBinder.this.keyBuilder.setLength(0);
+                Picasso.HANDLER.post(new Runnable() { // from class: com.squareup.picasso.AsyncRequestBinder.Binding.1
+                    @Override // java.lang.Runnable
+                    public void run() {
+                        AsyncRequestBinder.this.complete(Binding.this);
+                    }
+                });
+            } catch (final RuntimeException e) {
+                AsyncRequestBinder.this.keyBuilder.setLength(0);
+                Picasso.HANDLER.post(new Runnable() { // from class: com.squareup.picasso.AsyncRequestBinder.Binding.2
+                    @Override // java.lang.Runnable
+                    public void run() {
+                        throw e;
+                    }
+                });
+            }
+        }
+    }
+}
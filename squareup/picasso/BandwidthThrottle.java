@@ -0,0 +1,75 @@
+package com.squareup.picasso;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class BandwidthThrottle {
+    private static final int MAX_CHUNK_SIZE = 8192;
+    private final long bytesPerSecond;
+    private long nextAvailable;
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public BandwidthThrottle(long j) {
+        if (j <= 0) {
+            throw new IllegalArgumentException("Bytes per second must be positive.");
+        }
+        this.bytesPerSecond = j;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public InputStream wrap(InputStream inputStream) {
+        return new ThrottledInputStream(inputStream, this);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void acquire(long j) throws InterruptedIOException {
+        long max;
+        long nanos = (TimeUnit.SECONDS.toNanos(1L) * j) / this.bytesPerSecond;
+        synchronized (this) {
+            long nanoTime = System.nanoTime();
+            max = Math.max(this.nextAvailable, nanoTime);
+            this.nextAvailable = max + nanos;
+            max -= nanoTime;
+        }
+        if (max > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(max);
+            } catch (InterruptedException unused) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while throttled.");
+            }
+        }
+    }
+
+    /* loaded from: classes.dex */
+    static final class ThrottledInputStream extends FilterInputStream {
+        private final BandwidthThrottle throttle;
+
+        ThrottledInputStream(InputStream inputStream, BandwidthThrottle bandwidthThrottle) {
+            super(inputStream);
+            this.throttle = bandwidthThrottle;
+        }
+
+        @Override // java.io.FilterInputStream, java.io.InputStream
+        public int read() throws IOException {
+            int read = this.in.read();
+            if (read != -1) {
+                this.throttle.acquire(1L);
+            }
+            return read;
+        }
+
+        @Override // java.io.FilterInputStream, java.io.InputStream
+        public int read(byte[] bArr, int i, int i2) throws IOException {
+            int read = this.in.read(bArr, i, Math.min(i2, MAX_CHUNK_SIZE));
+            if (read > 0) {
+                this.throttle.acquire(read);
+            }
+            return read;
+        }
+    }
+}
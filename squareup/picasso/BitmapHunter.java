@@ -22,6 +22,7 @@ public class BitmapHunter implements Runnable {
     Action action;
     List<Action> actions;
     final Cache cache;
+    final CancellationToken cancellationToken = new CancellationToken();
     final Request data;
     final Dispatcher dispatcher;
     Exception exception;
@@ -124,7 +125,14 @@ public class BitmapHunter implements Runnable {
                         }
                     } catch (IOException e) {
                         this.exception = e;
-                        this.dispatcher.dispatchRetry(this);
+                        if ((e instanceof CancellableInputStream.CancelledException) || this.cancellationToken.isCancelled()) {
+                            if (this.picasso.loggingEnabled) {
+                                Utils.log("Hunter", "canceled", Utils.getLogIdsForHunter(this), "while loading");
+                            }
+                            this.dispatcher.dispatchFailed(this);
+                        } else {
+                            this.dispatcher.dispatchRetry(this);
+                        }
                     }
                 } catch (Downloader.ResponseException e2) {
                     if (!e2.localCacheOnly || e2.responseCode != 504) {
@@ -166,24 +174,26 @@ public class BitmapHunter implements Runnable {
             bitmap = null;
         }
         this.data.networkPolicy = this.retryCount == 0 ? NetworkPolicy.OFFLINE.index : this.networkPolicy;
+        this.cancellationToken.throwIfCancelled(this.data);
         RequestHandler.Result load = this.requestHandler.load(this.data, this.networkPolicy);
         if (load != null) {
             this.loadedFrom = load.getLoadedFrom();
             this.exifRotation = load.getExifOrientation();
             bitmap = load.getBitmap();
             if (bitmap == null) {
-                InputStream stream = load.getStream();
+                InputStream wrap = CancellableInputStream.wrap(load.getStream(), this.data, this.cancellationToken);
                 try {
-                    Bitmap decodeStream = decodeStream(stream, this.data);
-                    Utils.closeQuietly(stream);
+                    Bitmap decodeStream = decodeStream(wrap, this.data);
+                    Utils.closeQuietly(wrap);
                     bitmap = decodeStream;
                 } catch (Throwable th) {
-                    Utils.closeQuietly(stream);
+                    Utils.closeQuietly(wrap);
                     throw th;
                 }
             }
         }
         if (bitmap != null) {
+            this.cancellationToken.throwIfCancelled(this.data);
             if (this.picasso.loggingEnabled) {
                 Utils.log("Hunter", "decoded", this.data.logId());
             }
@@ -292,7 +302,10 @@ public class BitmapHunter implements Runnable {
         Future<?> future;
         if (this.action == null) {
             List<Action> list = this.actions;
-            return (list == null || list.isEmpty()) && (future = this.future) != null && future.cancel(false);
+            if ((list == null || list.isEmpty()) && (future = this.future) != null && future.cancel(false)) {
+                this.cancellationToken.cancel();
+                return true;
+            }
         }
         return false;
     }
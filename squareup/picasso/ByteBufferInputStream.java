@@ -0,0 +1,69 @@
+package com.squareup.picasso;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+    private int mark;
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public ByteBufferInputStream(ByteBuffer byteBuffer) {
+        this.buffer = byteBuffer;
+        this.mark = byteBuffer.position();
+    }
+
+    @Override // java.io.InputStream
+    public int read() {
+        if (this.buffer.hasRemaining()) {
+            return this.buffer.get() & 255;
+        }
+        return -1;
+    }
+
+    @Override // java.io.InputStream
+    public int read(byte[] bArr, int i, int i2) {
+        if (i2 == 0) {
+            return 0;
+        }
+        int remaining = this.buffer.remaining();
+        if (remaining == 0) {
+            return -1;
+        }
+        int min = Math.min(i2, remaining);
+        this.buffer.get(bArr, i, min);
+        return min;
+    }
+
+    @Override // java.io.InputStream
+    public long skip(long j) {
+        if (j <= 0) {
+            return 0L;
+        }
+        int min = (int) Math.min(j, this.buffer.remaining());
+        ByteBuffer byteBuffer = this.buffer;
+        byteBuffer.position(byteBuffer.position() + min);
+        return min;
+    }
+
+    @Override // java.io.InputStream
+    public int available() {
+        return this.buffer.remaining();
+    }
+
+    @Override // java.io.InputStream
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override // java.io.InputStream
+    public synchronized void mark(int i) {
+        this.mark = this.buffer.position();
+    }
+
+    @Override // java.io.InputStream
+    public synchronized void reset() {
+        this.buffer.position(this.mark);
+    }
+}
@@ -0,0 +1,90 @@
+package com.squareup.picasso;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class CancellableInputStream extends FilterInputStream {
+    private long bytesRead;
+    private final long contentLength;
+    private boolean reported;
+    private final Request request;
+    private final InputStream source;
+    private final Stats stats;
+    private volatile CancellationToken token;
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public CancellableInputStream(InputStream inputStream, Request request, long j, Stats stats) {
+        this(inputStream, inputStream, request, j, stats);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public CancellableInputStream(InputStream inputStream, InputStream inputStream2, Request request, long j, Stats stats) {
+        super(inputStream);
+        this.source = inputStream2;
+        this.request = request;
+        this.contentLength = j;
+        this.stats = stats;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public static InputStream wrap(InputStream inputStream, Request request, CancellationToken cancellationToken) {
+        CancellableInputStream cancellableInputStream = inputStream instanceof CancellableInputStream ? (CancellableInputStream) inputStream : new CancellableInputStream(inputStream, request, -1L, null);
+        cancellableInputStream.token = cancellationToken;
+        return cancellableInputStream;
+    }
+
+    @Override // java.io.FilterInputStream, java.io.InputStream
+    public int read() throws IOException {
+        checkCancelled();
+        int read = this.in.read();
+        if (read != -1) {
+            this.bytesRead++;
+        }
+        return read;
+    }
+
+    @Override // java.io.FilterInputStream, java.io.InputStream
+    public int read(byte[] bArr, int i, int i2) throws IOException {
+        checkCancelled();
+        int read = this.in.read(bArr, i, i2);
+        if (read != -1) {
+            this.bytesRead += read;
+        }
+        return read;
+    }
+
+    @Override // java.io.FilterInputStream, java.io.InputStream
+    public long skip(long j) throws IOException {
+        checkCancelled();
+        long skip = this.in.skip(j);
+        this.bytesRead += skip;
+        return skip;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void checkCancelled() throws IOException {
+        CancellationToken cancellationToken = this.token;
+        if (cancellationToken != null && cancellationToken.isCancelled()) {
+            if (!this.reported) {
+                this.reported = true;
+                DeduplicatingDownloader.abandon(this.source);
+                Utils.closeQuietly(this.in);
+                Stats stats = this.stats;
+                if (stats != null) {
+                    long j = this.contentLength;
+                    stats.dispatchDownloadCancelled(j > 0 ? Math.max(0L, j - this.bytesRead) : 0L);
+                }
+            }
+            throw new CancelledException("Request " + this.request.plainId() + " was canceled.");
+        }
+    }
+
+    /* loaded from: classes.dex */
+    static class CancelledException extends IOException {
+        CancelledException(String str) {
+            super(str);
+        }
+    }
+}
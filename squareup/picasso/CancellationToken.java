@@ -0,0 +1,24 @@
+package com.squareup.picasso;
+
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class CancellationToken {
+    private volatile boolean cancelled;
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void throwIfCancelled(Request request) throws CancellableInputStream.CancelledException {
+        if (this.cancelled) {
+            throw new CancellableInputStream.CancelledException("Request " + request.plainId() + " was canceled.");
+        }
+    }
+}
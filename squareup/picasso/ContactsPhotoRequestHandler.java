@@ -1,6 +1,7 @@
 package com.squareup.picasso;
 
 import android.content.ContentResolver;
+import android.content.ContentUris;
 import android.content.Context;
 import android.content.UriMatcher;
 import android.net.Uri;
@@ -19,6 +20,7 @@ public class ContactsPhotoRequestHandler extends RequestHandler {
     private static final int ID_THUMBNAIL = 2;
     private static final UriMatcher matcher;
     private final Context context;
+    private ContactsPhotoResolver resolver;
 
     static {
         UriMatcher uriMatcher = new UriMatcher(-1);
@@ -50,10 +52,26 @@ public class ContactsPhotoRequestHandler extends RequestHandler {
         return null;
     }
 
+    @Override // com.squareup.picasso.RequestHandler
+    public synchronized void shutdown() {
+        ContactsPhotoResolver contactsPhotoResolver = this.resolver;
+        if (contactsPhotoResolver != null) {
+            contactsPhotoResolver.shutdown();
+        }
+    }
+
     private InputStream getInputStream(Request request) throws IOException {
         ContentResolver contentResolver = this.context.getContentResolver();
         Uri uri = request.uri;
         int match = matcher.match(uri);
+        if (Build.VERSION.SDK_INT >= 14 && (match == 1 || match == 3)) {
+            ContactsPhotoResolver resolver = getResolver();
+            ContactsPhotoResolver.Entry resolveLookupUri = match == 1 ? resolver.resolveLookupUri(uri) : resolver.resolveContactId(ContentUris.parseId(uri));
+            if (resolveLookupUri == null) {
+                return null;
+            }
+            return resolver.openPhoto(resolveLookupUri);
+        }
         if (match == 1) {
             uri = ContactsContract.Contacts.lookupContact(contentResolver, uri);
             if (uri == null) {
@@ -75,6 +93,13 @@ public class ContactsPhotoRequestHandler extends RequestHandler {
         return ContactPhotoStreamIcs.get(contentResolver, uri);
     }
 
+    private synchronized ContactsPhotoResolver getResolver() {
+        if (this.resolver == null) {
+            this.resolver = new ContactsPhotoResolver(this.context.getContentResolver());
+        }
+        return this.resolver;
+    }
+
     /* JADX INFO: Access modifiers changed from: private */
     /* loaded from: classes.dex */
     public static class ContactPhotoStreamIcs {
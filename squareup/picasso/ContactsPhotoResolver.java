@@ -0,0 +1,222 @@
+package com.squareup.picasso;
+
+import android.content.ContentResolver;
+import android.content.ContentUris;
+import android.database.ContentObserver;
+import android.database.Cursor;
+import android.net.Uri;
+import android.provider.ContactsContract;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class ContactsPhotoResolver {
+    private static final String[] PROJECTION = {"_id", "lookup", "photo_id", "photo_file_id"};
+    private static final long UNKNOWN_PHOTO_ID = -1;
+    private final Map<Long, Entry> byContactId = new HashMap();
+    private final Map<String, Entry> byLookupKey = new HashMap();
+    private final ContentResolver contentResolver;
+    private int generation;
+    private boolean loaded;
+    private boolean loading;
+    private boolean observing;
+    private final ContentObserver observer = new ContentObserver(null) { // from class: com.squareup.picasso.ContactsPhotoResolver.1
+        @Override // android.database.ContentObserver
+        public void onChange(boolean z) {
+            ContactsPhotoResolver.this.invalidate();
+        }
+    };
+    private boolean shutdown;
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public ContactsPhotoResolver(ContentResolver contentResolver) {
+        this.contentResolver = contentResolver;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public Entry resolveLookupUri(Uri uri) {
+        int i;
+        List<String> pathSegments = uri.getPathSegments();
+        String str = pathSegments.size() > 2 ? pathSegments.get(2) : null;
+        if (str == null) {
+            return null;
+        }
+        loadIfNeeded();
+        synchronized (this) {
+            Entry entry = this.byLookupKey.get(str);
+            if (entry != null) {
+                return entry;
+            }
+            i = this.generation;
+        }
+        Uri lookupContact = ContactsContract.Contacts.lookupContact(this.contentResolver, uri);
+        if (lookupContact == null) {
+            return null;
+        }
+        Entry resolveContactId = resolveContactId(ContentUris.parseId(lookupContact));
+        synchronized (this) {
+            if (resolveContactId != null && this.loaded && i == this.generation) {
+                this.byLookupKey.put(str, resolveContactId);
+            }
+        }
+        return resolveContactId;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public Entry resolveContactId(long j) {
+        loadIfNeeded();
+        synchronized (this) {
+            Entry entry = this.byContactId.get(Long.valueOf(j));
+            if (entry != null) {
+                return entry;
+            }
+            if (this.loaded) {
+                Entry entry2 = new Entry(j, 0L, 0L);
+                this.byContactId.put(Long.valueOf(j), entry2);
+                return entry2;
+            }
+        }
+        return querySingle(j);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public synchronized void invalidate() {
+        this.generation++;
+        this.loaded = false;
+        this.byLookupKey.clear();
+        this.byContactId.clear();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public synchronized void shutdown() {
+        if (this.shutdown) {
+            return;
+        }
+        this.shutdown = true;
+        if (this.observing) {
+            this.observing = false;
+            try {
+                this.contentResolver.unregisterContentObserver(this.observer);
+            } catch (RuntimeException unused) {
+            }
+        }
+        invalidate();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public InputStream openPhoto(Entry entry) throws FileNotFoundException {
+        if (entry.photoFileId > 0) {
+            try {
+                return this.contentResolver.openInputStream(ContentUris.withAppendedId(ContactsContract.DisplayPhoto.CONTENT_URI, entry.photoFileId));
+            } catch (FileNotFoundException unused) {
+            }
+        }
+        Uri withAppendedId = ContentUris.withAppendedId(ContactsContract.Contacts.CONTENT_URI, entry.contactId);
+        if (entry.photoId > 0) {
+            return this.contentResolver.openInputStream(Uri.withAppendedPath(withAppendedId, "photo"));
+        }
+        if (entry.photoId == UNKNOWN_PHOTO_ID) {
+            return ContactsContract.Contacts.openContactPhotoInputStream(this.contentResolver, withAppendedId, true);
+        }
+        return null;
+    }
+
+    private void loadIfNeeded() {
+        int i;
+        synchronized (this) {
+            while (this.loading) {
+                try {
+                    wait();
+                } catch (InterruptedException unused) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (this.loaded || this.shutdown) {
+                return;
+            }
+            if (!this.observing) {
+                this.observing = true;
+                try {
+                    this.contentResolver.registerContentObserver(ContactsContract.Contacts.CONTENT_URI, true, this.observer);
+                } catch (RuntimeException unused2) {
+                }
+            }
+            this.loading = true;
+            i = this.generation;
+        }
+        HashMap hashMap = new HashMap();
+        HashMap hashMap2 = new HashMap();
+        boolean query = query(hashMap, hashMap2);
+        synchronized (this) {
+            this.loading = false;
+            notifyAll();
+            if (query && i == this.generation && !this.shutdown) {
+                this.byContactId.putAll(hashMap);
+                this.byLookupKey.putAll(hashMap2);
+                this.loaded = true;
+            }
+        }
+    }
+
+    private boolean query(Map<Long, Entry> map, Map<String, Entry> map2) {
+        Cursor cursor = null;
+        try {
+            cursor = this.contentResolver.query(ContactsContract.Contacts.CONTENT_URI, PROJECTION, "photo_id IS NOT NULL", null, null);
+            if (cursor == null) {
+                return false;
+            }
+            while (cursor.moveToNext()) {
+                Entry entry = new Entry(cursor.getLong(0), cursor.isNull(2) ? 0L : cursor.getLong(2), cursor.isNull(3) ? 0L : cursor.getLong(3));
+                map.put(Long.valueOf(entry.contactId), entry);
+                String string = cursor.getString(1);
+                if (string != null) {
+                    map2.put(string, entry);
+                }
+            }
+            return true;
+        } catch (RuntimeException unused) {
+            return false;
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+    }
+
+    private Entry querySingle(long j) {
+        Cursor cursor = null;
+        try {
+            cursor = this.contentResolver.query(ContentUris.withAppendedId(ContactsContract.Contacts.CONTENT_URI, j), PROJECTION, null, null, null);
+            if (cursor == null) {
+                return new Entry(j, UNKNOWN_PHOTO_ID, 0L);
+            }
+            if (!cursor.moveToFirst()) {
+                return null;
+            }
+            return new Entry(j, cursor.isNull(2) ? 0L : cursor.getLong(2), cursor.isNull(3) ? 0L : cursor.getLong(3));
+        } catch (RuntimeException unused) {
+            return new Entry(j, UNKNOWN_PHOTO_ID, 0L);
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+    }
+
+    /* loaded from: classes.dex */
+    static final class Entry {
+        final long contactId;
+        final long photoFileId;
+        final long photoId;
+
+        Entry(long j, long j2, long j3) {
+            this.contactId = j;
+            this.photoId = j2;
+            this.photoFileId = j3;
+        }
+    }
+}
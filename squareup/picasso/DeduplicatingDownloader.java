@@ -0,0 +1,496 @@
+package com.squareup.picasso;
+
+import android.content.Context;
+import android.net.Uri;
+import com.squareup.picasso.Downloader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+/* loaded from: classes.dex */
+public class DeduplicatingDownloader implements Downloader {
+    private static final String CONTENT_CACHE = "picasso-content";
+    private static final int CONTENT_CACHE_SHARE = 4;
+    private static final String DIGEST_ALGORITHM = "SHA-1";
+    private static final int MAX_DRAIN_SIZE = 8192;
+    private static final String KEYS_DIR = "keys";
+    private static final String OBJECTS_DIR = "objects";
+    private static final String TEMP_DIR = "tmp";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final AtomicInteger TEMP_SEQUENCE = new AtomicInteger();
+    private final Downloader delegate;
+    private boolean initialized;
+    private final LinkedHashMap<String, String> keyToDigest;
+    private final Map<String, Long> keyToFreshUntil;
+    private final File keysDir;
+    private final long maxSize;
+    private final UrlNormalizer normalizer;
+    private final File objectsDir;
+    private final Map<String, Integer> referenceCounts;
+    private long size;
+    private final File tempDir;
+
+    /* loaded from: classes.dex */
+    public interface UrlNormalizer {
+        public static final UrlNormalizer IDENTITY = new UrlNormalizer() { // from class: com.squareup.picasso.DeduplicatingDownloader.UrlNormalizer.1
+            @Override // com.squareup.picasso.DeduplicatingDownloader.UrlNormalizer
+            public Uri normalize(Uri uri) {
+                return uri;
+            }
+        };
+
+        Uri normalize(Uri uri);
+    }
+
+    public DeduplicatingDownloader(Context context, Downloader downloader) {
+        this(context, downloader, UrlNormalizer.IDENTITY);
+    }
+
+    public DeduplicatingDownloader(Context context, Downloader downloader, UrlNormalizer urlNormalizer) {
+        this(new File(context.getApplicationContext().getCacheDir(), CONTENT_CACHE), Utils.calculateDiskCacheSize(Utils.createDefaultCacheDir(context)) / CONTENT_CACHE_SHARE, downloader, urlNormalizer);
+    }
+
+    public DeduplicatingDownloader(File file, long j, Downloader downloader, UrlNormalizer urlNormalizer) {
+        if (file == null) {
+            throw new IllegalArgumentException("Cache directory must not be null.");
+        }
+        if (j <= 0) {
+            throw new IllegalArgumentException("Max size must be positive.");
+        }
+        if (downloader == null) {
+            throw new IllegalArgumentException("Downloader must not be null.");
+        }
+        if (urlNormalizer == null) {
+            throw new IllegalArgumentException("URL normalizer must not be null.");
+        }
+        this.maxSize = j;
+        this.delegate = downloader;
+        this.normalizer = urlNormalizer;
+        this.keysDir = new File(file, KEYS_DIR);
+        this.objectsDir = new File(file, OBJECTS_DIR);
+        this.tempDir = new File(file, TEMP_DIR);
+        this.keyToDigest = new LinkedHashMap<>(0, 0.75f, true);
+        this.keyToFreshUntil = new HashMap();
+        this.referenceCounts = new HashMap();
+    }
+
+    public static UrlNormalizer ignoringQueryParameters(String... strArr) {
+        final Set hashSet = new HashSet(Arrays.asList(strArr));
+        return new UrlNormalizer() { // from class: com.squareup.picasso.DeduplicatingDownloader.1
+            @Override // com.squareup.picasso.DeduplicatingDownloader.UrlNormalizer
+            public Uri normalize(Uri uri) {
+                if (uri.isOpaque() || uri.getQuery() == null) {
+                    return uri;
+                }
+                Uri.Builder clearQuery = uri.buildUpon().clearQuery();
+                for (String str : uri.getQueryParameterNames()) {
+                    if (!hashSet.contains(str)) {
+                        for (String str2 : uri.getQueryParameters(str)) {
+                            clearQuery.appendQueryParameter(str, str2);
+                        }
+                    }
+                }
+                return clearQuery.build();
+            }
+        };
+    }
+
+    @Override // com.squareup.picasso.Downloader
+    public Downloader.Response load(Uri uri, int i) throws IOException {
+        String key = key(uri);
+        if (NetworkPolicy.shouldReadFromDiskCache(i)) {
+            File lookup = lookup(key, NetworkPolicy.isOfflineOnly(i));
+            if (lookup != null) {
+                try {
+                    return new Downloader.Response(new FileInputStream(lookup), true, lookup.length());
+                } catch (IOException unused) {
+                    remove(key);
+                }
+            }
+        }
+        Downloader.Response load = this.delegate.load(uri, i);
+        InputStream inputStream = load.getInputStream();
+        if (inputStream == null || !NetworkPolicy.shouldWriteToDiskCache(i) || load.freshUntil == 0) {
+            return load;
+        }
+        try {
+            Downloader.Response response = new Downloader.Response(new StoringInputStream(inputStream, key, load.freshUntil, newTempFile()), load.cached, load.getContentLength());
+            response.freshUntil = load.freshUntil;
+            return response;
+        } catch (IOException unused2) {
+            return load;
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public static void abandon(InputStream inputStream) {
+        if (inputStream instanceof StoringInputStream) {
+            ((StoringInputStream) inputStream).abandoned = true;
+        }
+    }
+
+    @Override // com.squareup.picasso.Downloader
+    public void shutdown() {
+        this.delegate.shutdown();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public String key(Uri uri) {
+        Uri normalize = this.normalizer.normalize(uri);
+        if (normalize == null) {
+            throw new IllegalStateException("URL normalizer " + this.normalizer.getClass().getCanonicalName() + " returned null for " + uri);
+        }
+        try {
+            return hex(digest(normalize.toString().getBytes("UTF-8")));
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private synchronized File lookup(String str, boolean z) {
+        initializeIfNeeded();
+        String str2 = this.keyToDigest.get(str);
+        if (str2 == null) {
+            return null;
+        }
+        Long l = this.keyToFreshUntil.get(str);
+        if (!z && (l == null || l.longValue() <= System.currentTimeMillis())) {
+            return null;
+        }
+        File file = new File(this.objectsDir, str2);
+        if (!file.exists()) {
+            remove(str);
+            return null;
+        }
+        new File(this.keysDir, str).setLastModified(System.currentTimeMillis());
+        return file;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public synchronized void commit(String str, String str2, long j, File file) {
+        initializeIfNeeded();
+        File file2 = new File(this.objectsDir, str2);
+        if (file2.exists()) {
+            file.delete();
+        } else if (file.renameTo(file2)) {
+            this.size += file2.length();
+        } else {
+            file.delete();
+            return;
+        }
+        String str3 = this.keyToDigest.get(str);
+        if (str2.equals(str3)) {
+            if (writeKey(str, str2, j)) {
+                this.keyToFreshUntil.put(str, Long.valueOf(j));
+            }
+            return;
+        }
+        if (!writeKey(str, str2, j)) {
+            if (!this.referenceCounts.containsKey(str2)) {
+                long length = file2.length();
+                if (file2.delete()) {
+                    this.size -= length;
+                }
+            }
+            return;
+        }
+        if (str3 != null) {
+            release(str3);
+        }
+        this.keyToDigest.put(str, str2);
+        this.keyToFreshUntil.put(str, Long.valueOf(j));
+        retain(str2);
+        trimToSize();
+    }
+
+    private synchronized void remove(String str) {
+        String remove = this.keyToDigest.remove(str);
+        this.keyToFreshUntil.remove(str);
+        new File(this.keysDir, str).delete();
+        if (remove != null) {
+            release(remove);
+        }
+    }
+
+    private void retain(String str) {
+        Integer num = this.referenceCounts.get(str);
+        this.referenceCounts.put(str, Integer.valueOf(num == null ? 1 : num.intValue() + 1));
+    }
+
+    private void release(String str) {
+        Integer num = this.referenceCounts.get(str);
+        if (num != null && num.intValue() > 1) {
+            this.referenceCounts.put(str, Integer.valueOf(num.intValue() - 1));
+            return;
+        }
+        this.referenceCounts.remove(str);
+        File file = new File(this.objectsDir, str);
+        long length = file.length();
+        if (file.delete()) {
+            this.size -= length;
+        }
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<String, String>> it = this.keyToDigest.entrySet().iterator();
+        while (this.size > this.maxSize && it.hasNext()) {
+            Map.Entry<String, String> next = it.next();
+            it.remove();
+            this.keyToFreshUntil.remove(next.getKey());
+            new File(this.keysDir, next.getKey()).delete();
+            release(next.getValue());
+        }
+    }
+
+    private boolean writeKey(String str, String str2, long j) {
+        FileOutputStream fileOutputStream = null;
+        try {
+            fileOutputStream = new FileOutputStream(new File(this.keysDir, str));
+            fileOutputStream.write((str2 + '\n' + j).getBytes("US-ASCII"));
+            return true;
+        } catch (IOException unused) {
+            return false;
+        } finally {
+            closeQuietly(fileOutputStream);
+        }
+    }
+
+    private void initializeIfNeeded() {
+        if (this.initialized) {
+            return;
+        }
+        this.initialized = true;
+        this.keysDir.mkdirs();
+        this.objectsDir.mkdirs();
+        this.tempDir.mkdirs();
+        File[] listFiles = this.tempDir.listFiles();
+        if (listFiles != null) {
+            for (File file : listFiles) {
+                file.delete();
+            }
+        }
+        File[] listFiles2 = this.keysDir.listFiles();
+        if (listFiles2 != null) {
+            Arrays.sort(listFiles2, new Comparator<File>() { // from class: com.squareup.picasso.DeduplicatingDownloader.2
+                @Override // java.util.Comparator
+                public int compare(File file2, File file3) {
+                    long lastModified = file2.lastModified();
+                    long lastModified2 = file3.lastModified();
+                    if (lastModified < lastModified2) {
+                        return -1;
+                    }
+                    return lastModified == lastModified2 ? 0 : 1;
+                }
+            });
+            for (File file2 : listFiles2) {
+                String readKey = readKey(file2);
+                int indexOf = readKey == null ? -1 : readKey.indexOf(10);
+                String substring = indexOf == -1 ? readKey : readKey.substring(0, indexOf);
+                if (substring == null || substring.length() == 0 || !new File(this.objectsDir, substring).exists()) {
+                    file2.delete();
+                } else {
+                    this.keyToDigest.put(file2.getName(), substring);
+                    this.keyToFreshUntil.put(file2.getName(), Long.valueOf(indexOf == -1 ? -1L : parseFreshUntil(readKey.substring(indexOf + 1))));
+                    retain(substring);
+                }
+            }
+        }
+        File[] listFiles3 = this.objectsDir.listFiles();
+        if (listFiles3 != null) {
+            for (File file3 : listFiles3) {
+                if (this.referenceCounts.containsKey(file3.getName())) {
+                    this.size += file3.length();
+                } else {
+                    file3.delete();
+                }
+            }
+        }
+        trimToSize();
+    }
+
+    private static String readKey(File file) {
+        FileInputStream fileInputStream = null;
+        try {
+            fileInputStream = new FileInputStream(file);
+            String str = new String(Utils.toByteArray(fileInputStream), "US-ASCII");
+            if (str.length() == 0) {
+                return null;
+            }
+            return str;
+        } catch (IOException unused) {
+            return null;
+        } finally {
+            Utils.closeQuietly(fileInputStream);
+        }
+    }
+
+    private static long parseFreshUntil(String str) {
+        try {
+            return Long.parseLong(str.trim());
+        } catch (NumberFormatException unused) {
+            return -1L;
+        }
+    }
+
+    private synchronized File newTempFile() {
+        initializeIfNeeded();
+        return new File(this.tempDir, Long.toString(System.nanoTime()) + '-' + TEMP_SEQUENCE.incrementAndGet());
+    }
+
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static byte[] digest(byte[] bArr) {
+        return newDigest().digest(bArr);
+    }
+
+    static String hex(byte[] bArr) {
+        char[] cArr = new char[bArr.length * 2];
+        for (int i = 0; i < bArr.length; i++) {
+            int i2 = bArr[i] & 255;
+            int i3 = i * 2;
+            cArr[i3] = HEX_DIGITS[i2 >>> 4];
+            cArr[i3 + 1] = HEX_DIGITS[i2 & 15];
+        }
+        return new String(cArr);
+    }
+
+    private static void closeQuietly(OutputStream outputStream) {
+        if (outputStream == null) {
+            return;
+        }
+        try {
+            outputStream.close();
+        } catch (IOException unused) {
+        }
+    }
+
+    /* loaded from: classes.dex */
+    private final class StoringInputStream extends FilterInputStream {
+        volatile boolean abandoned;
+        private boolean complete;
+        private final MessageDigest digest;
+        private final long freshUntil;
+        private final String key;
+        private OutputStream out;
+        private final File tempFile;
+
+        StoringInputStream(InputStream inputStream, String str, long j, File file) throws IOException {
+            super(inputStream);
+            this.key = str;
+            this.freshUntil = j;
+            this.tempFile = file;
+            this.digest = DeduplicatingDownloader.newDigest();
+            this.out = new FileOutputStream(file);
+        }
+
+        @Override // java.io.FilterInputStream, java.io.InputStream
+        public int read() throws IOException {
+            int read = this.in.read();
+            if (read == -1) {
+                this.complete = true;
+            } else {
+                store(new byte[]{(byte) read}, 0, 1);
+            }
+            return read;
+        }
+
+        @Override // java.io.FilterInputStream, java.io.InputStream
+        public int read(byte[] bArr, int i, int i2) throws IOException {
+            int read = this.in.read(bArr, i, i2);
+            if (read == -1) {
+                this.complete = true;
+            } else if (read > 0) {
+                store(bArr, i, read);
+            }
+            return read;
+        }
+
+        @Override // java.io.FilterInputStream, java.io.InputStream
+        public long skip(long j) throws IOException {
+            byte[] bArr = new byte[(int) Math.min(j, 4096L)];
+            int read = read(bArr, 0, bArr.length);
+            if (read == -1) {
+                return 0L;
+            }
+            return read;
+        }
+
+        @Override // java.io.FilterInputStream, java.io.InputStream
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void drainTrailingBytes() {
+            byte[] bArr = new byte[4096];
+            int i = 0;
+            while (i <= MAX_DRAIN_SIZE) {
+                try {
+                    int read = read(bArr, 0, bArr.length);
+                    if (read == -1) {
+                        return;
+                    }
+                    i += read;
+                } catch (IOException unused) {
+                    return;
+                }
+            }
+        }
+
+        private void store(byte[] bArr, int i, int i2) {
+            OutputStream outputStream = this.out;
+            if (outputStream == null) {
+                return;
+            }
+            try {
+                outputStream.write(bArr, i, i2);
+                this.digest.update(bArr, i, i2);
+            } catch (IOException unused) {
+                DeduplicatingDownloader.closeQuietly(this.out);
+                this.out = null;
+                this.tempFile.delete();
+            }
+        }
+
+        @Override // java.io.FilterInputStream, java.io.InputStream, java.io.Closeable, java.lang.AutoCloseable
+        public void close() throws IOException {
+            if (!this.complete && this.out != null && !this.abandoned) {
+                drainTrailingBytes();
+            }
+            OutputStream outputStream = this.out;
+            this.out = null;
+            try {
+                super.close();
+            } finally {
+                if (outputStream != null) {
+                    DeduplicatingDownloader.closeQuietly(outputStream);
+                    if (this.complete) {
+                        DeduplicatingDownloader.this.commit(this.key, DeduplicatingDownloader.hex(this.digest.digest()), this.freshUntil, this.tempFile);
+                    } else {
+                        this.tempFile.delete();
+                    }
+                }
+            }
+        }
+    }
+}
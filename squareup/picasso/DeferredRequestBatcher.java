@@ -0,0 +1,124 @@
+package com.squareup.picasso;
+
+import android.os.Build;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import android.widget.ImageView;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class DeferredRequestBatcher implements ViewTreeObserver.OnPreDrawListener, View.OnAttachStateChangeListener {
+    private final List<DeferredRequestCreator> pending = new ArrayList();
+    private final List<WeakReference<ViewTreeObserver>> registrations = new ArrayList();
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void add(DeferredRequestCreator deferredRequestCreator, ImageView imageView) {
+        Utils.checkMain();
+        if (Build.VERSION.SDK_INT >= 12 && !isPending(imageView)) {
+            imageView.addOnAttachStateChangeListener(this);
+        }
+        this.pending.add(deferredRequestCreator);
+        updateRegistrations(null);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void remove(DeferredRequestCreator deferredRequestCreator) {
+        if (this.pending.remove(deferredRequestCreator)) {
+            stopWatching(deferredRequestCreator.target.get());
+            updateRegistrations(null);
+        }
+    }
+
+    @Override // android.view.ViewTreeObserver.OnPreDrawListener
+    public boolean onPreDraw() {
+        ArrayList arrayList = null;
+        Iterator<DeferredRequestCreator> it = this.pending.iterator();
+        while (it.hasNext()) {
+            DeferredRequestCreator next = it.next();
+            ImageView imageView = next.target.get();
+            if (imageView == null) {
+                it.remove();
+            } else if (imageView.getWidth() > 0 && imageView.getHeight() > 0) {
+                it.remove();
+                if (arrayList == null) {
+                    arrayList = new ArrayList();
+                }
+                arrayList.add(next);
+            }
+        }
+        if (arrayList != null) {
+            int size = arrayList.size();
+            for (int i = 0; i < size; i++) {
+                stopWatching(((DeferredRequestCreator) arrayList.get(i)).target.get());
+            }
+        }
+        updateRegistrations(null);
+        if (arrayList != null) {
+            int size2 = arrayList.size();
+            for (int i2 = 0; i2 < size2; i2++) {
+                ((DeferredRequestCreator) arrayList.get(i2)).resolve();
+            }
+        }
+        return true;
+    }
+
+    @Override // android.view.View.OnAttachStateChangeListener
+    public void onViewAttachedToWindow(View view) {
+        updateRegistrations(null);
+    }
+
+    @Override // android.view.View.OnAttachStateChangeListener
+    public void onViewDetachedFromWindow(View view) {
+        updateRegistrations(view);
+    }
+
+    private boolean isPending(ImageView imageView) {
+        int size = this.pending.size();
+        for (int i = 0; i < size; i++) {
+            if (this.pending.get(i).target.get() == imageView) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void stopWatching(ImageView imageView) {
+        if (imageView == null || Build.VERSION.SDK_INT < 12 || isPending(imageView)) {
+            return;
+        }
+        imageView.removeOnAttachStateChangeListener(this);
+    }
+
+    private void updateRegistrations(View view) {
+        ArrayList arrayList = new ArrayList();
+        int size = this.pending.size();
+        for (int i = 0; i < size; i++) {
+            ImageView imageView = this.pending.get(i).target.get();
+            if (imageView != null && imageView != view && (Build.VERSION.SDK_INT < 12 || imageView.getWindowToken() != null)) {
+                ViewTreeObserver viewTreeObserver = imageView.getViewTreeObserver();
+                if (!arrayList.contains(viewTreeObserver)) {
+                    arrayList.add(viewTreeObserver);
+                }
+            }
+        }
+        Iterator<WeakReference<ViewTreeObserver>> it = this.registrations.iterator();
+        while (it.hasNext()) {
+            ViewTreeObserver viewTreeObserver2 = it.next().get();
+            if (viewTreeObserver2 == null || !viewTreeObserver2.isAlive()) {
+                it.remove();
+            } else if (!arrayList.remove(viewTreeObserver2)) {
+                viewTreeObserver2.removeOnPreDrawListener(this);
+                it.remove();
+            }
+        }
+        int size2 = arrayList.size();
+        for (int i2 = 0; i2 < size2; i2++) {
+            ViewTreeObserver viewTreeObserver3 = (ViewTreeObserver) arrayList.get(i2);
+            viewTreeObserver3.addOnPreDrawListener(this);
+            this.registrations.add(new WeakReference<>(viewTreeObserver3));
+        }
+    }
+}
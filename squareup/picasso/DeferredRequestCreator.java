@@ -1,56 +1,36 @@
 package com.squareup.picasso;
 
-import android.view.ViewTreeObserver;
 import android.widget.ImageView;
 import java.lang.ref.WeakReference;
 /* JADX INFO: Access modifiers changed from: package-private */
 /* loaded from: classes.dex */
-public class DeferredRequestCreator implements ViewTreeObserver.OnPreDrawListener {
+public class DeferredRequestCreator {
+    private final DeferredRequestBatcher batcher;
     Callback callback;
     final RequestCreator creator;
     final WeakReference<ImageView> target;
 
-    DeferredRequestCreator(RequestCreator requestCreator, ImageView imageView) {
-        this(requestCreator, imageView, null);
-    }
-
     /* JADX INFO: Access modifiers changed from: package-private */
-    public DeferredRequestCreator(RequestCreator requestCreator, ImageView imageView, Callback callback) {
+    public DeferredRequestCreator(RequestCreator requestCreator, ImageView imageView, Callback callback, DeferredRequestBatcher deferredRequestBatcher) {
         this.creator = requestCreator;
         this.target = new WeakReference<>(imageView);
         this.callback = callback;
-        imageView.getViewTreeObserver().addOnPreDrawListener(this);
+        this.batcher = deferredRequestBatcher;
+        deferredRequestBatcher.add(this, imageView);
     }
 
-    @Override // android.view.ViewTreeObserver.OnPreDrawListener
-    public boolean onPreDraw() {
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void resolve() {
         ImageView imageView = this.target.get();
         if (imageView == null) {
-            return true;
-        }
-        ViewTreeObserver viewTreeObserver = imageView.getViewTreeObserver();
-        if (viewTreeObserver.isAlive()) {
-            int width = imageView.getWidth();
-            int height = imageView.getHeight();
-            if (width > 0 && height > 0) {
-                viewTreeObserver.removeOnPreDrawListener(this);
-                this.creator.unfit().resize(width, height).into(imageView, this.callback);
-            }
-            return true;
+            return;
         }
-        return true;
+        this.creator.unfit().resize(imageView.getWidth(), imageView.getHeight()).into(imageView, this.callback);
     }
 
     /* JADX INFO: Access modifiers changed from: package-private */
     public void cancel() {
         this.callback = null;
-        ImageView imageView = this.target.get();
-        if (imageView == null) {
-            return;
-        }
-        ViewTreeObserver viewTreeObserver = imageView.getViewTreeObserver();
-        if (viewTreeObserver.isAlive()) {
-            viewTreeObserver.removeOnPreDrawListener(this);
-        }
+        this.batcher.remove(this);
     }
 }
@@ -27,6 +27,7 @@ public interface Downloader {
         final Bitmap bitmap;
         final boolean cached;
         final long contentLength;
+        long freshUntil = -1;
         final InputStream stream;
 
         @Deprecated
@@ -0,0 +1,256 @@
+package com.squareup.picasso;
+
+import java.io.IOException;
+import java.io.InputStream;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class ExifParser {
+    private static final int EXIF_HEADER = 1165519206;
+    private static final int MARKER_APP1 = 225;
+    private static final int MARKER_EOI = 217;
+    private static final int MARKER_SOS = 218;
+    static final int ORIENTATION_NORMAL = 1;
+    private static final int ORIENTATION_PREFIX = 8192;
+    static final int ORIENTATION_UNKNOWN = -1;
+    private static final int TAG_ORIENTATION = 274;
+    private static final int TAG_THUMBNAIL_LENGTH = 514;
+    private static final int TAG_THUMBNAIL_OFFSET = 513;
+    private static final int TYPE_SHORT = 3;
+
+    private ExifParser() {
+    }
+
+    static int toRotation(int i) {
+        if (i != 3) {
+            if (i != 6) {
+                return i != 8 ? 0 : 270;
+            }
+            return 90;
+        }
+        return 180;
+    }
+
+    static int readOrientation(InputStream inputStream, int i) throws IOException {
+        Reader reader = new Reader(inputStream, i);
+        byte[] readApp1 = readApp1(reader, ORIENTATION_PREFIX);
+        if (readApp1 == null) {
+            return reader.truncated ? -1 : 1;
+        }
+        int parseOrientation = parseOrientation(readApp1);
+        if (parseOrientation == 1 && reader.truncated) {
+            return -1;
+        }
+        return parseOrientation;
+    }
+
+    static byte[] readThumbnail(InputStream inputStream, int i) throws IOException {
+        byte[] readApp1 = readApp1(new Reader(inputStream, i), Integer.MAX_VALUE);
+        if (readApp1 == null) {
+            return null;
+        }
+        return parseThumbnail(readApp1);
+    }
+
+    private static byte[] readApp1(Reader reader, int i) throws IOException {
+        if (reader.readUnsignedShort() != 65496) {
+            return null;
+        }
+        while (true) {
+            int readUnsignedByte = reader.readUnsignedByte();
+            if (readUnsignedByte != 255) {
+                return null;
+            }
+            int readUnsignedByte2 = reader.readUnsignedByte();
+            while (readUnsignedByte2 == 255) {
+                readUnsignedByte2 = reader.readUnsignedByte();
+            }
+            if (readUnsignedByte2 == MARKER_SOS || readUnsignedByte2 == MARKER_EOI || readUnsignedByte2 < 0) {
+                return null;
+            }
+            int readUnsignedShort = reader.readUnsignedShort() - 2;
+            if (readUnsignedShort < 0) {
+                return null;
+            }
+            if (readUnsignedByte2 == MARKER_APP1 && readUnsignedShort >= 14) {
+                byte[] bArr = new byte[6];
+                if (!reader.readFully(bArr, 0, 6)) {
+                    return null;
+                }
+                if (readInt(bArr, 0, false) == EXIF_HEADER && bArr[4] == 0 && bArr[5] == 0) {
+                    int min = Math.min(readUnsignedShort, Math.max(i, 14));
+                    if (min < readUnsignedShort) {
+                        reader.truncated = true;
+                    }
+                    byte[] bArr2 = new byte[min];
+                    System.arraycopy(bArr, 0, bArr2, 0, 6);
+                    if (!reader.readFully(bArr2, 6, min - 6)) {
+                        return null;
+                    }
+                    return bArr2;
+                } else if (!reader.skip(readUnsignedShort - 6)) {
+                    return null;
+                }
+            } else if (!reader.skip(readUnsignedShort)) {
+                return null;
+            }
+        }
+    }
+
+    private static int parseOrientation(byte[] bArr) {
+        boolean isLittleEndian = isLittleEndian(bArr);
+        int firstIfdOffset = firstIfdOffset(bArr, isLittleEndian);
+        if (firstIfdOffset < 0) {
+            return 1;
+        }
+        int findEntry = findEntry(bArr, firstIfdOffset, TAG_ORIENTATION, isLittleEndian);
+        if (findEntry < 0 || readShort(bArr, findEntry + 2, isLittleEndian) != TYPE_SHORT) {
+            return 1;
+        }
+        int readShort = readShort(bArr, findEntry + 8, isLittleEndian);
+        if (readShort < 1 || readShort > 8) {
+            return 1;
+        }
+        return readShort;
+    }
+
+    private static byte[] parseThumbnail(byte[] bArr) {
+        boolean isLittleEndian = isLittleEndian(bArr);
+        int firstIfdOffset = firstIfdOffset(bArr, isLittleEndian);
+        if (firstIfdOffset < 0) {
+            return null;
+        }
+        int readShort = firstIfdOffset + 2 + (readShort(bArr, firstIfdOffset, isLittleEndian) * 12);
+        if (readShort + 4 > bArr.length) {
+            return null;
+        }
+        int readInt = readInt(bArr, readShort, isLittleEndian) + 6;
+        if (readInt <= 6 || readInt + 2 > bArr.length) {
+            return null;
+        }
+        int findEntry = findEntry(bArr, readInt, TAG_THUMBNAIL_OFFSET, isLittleEndian);
+        int findEntry2 = findEntry(bArr, readInt, TAG_THUMBNAIL_LENGTH, isLittleEndian);
+        if (findEntry < 0 || findEntry2 < 0) {
+            return null;
+        }
+        int readInt2 = readInt(bArr, findEntry + 8, isLittleEndian) + 6;
+        int readInt3 = readInt(bArr, findEntry2 + 8, isLittleEndian);
+        if (readInt2 <= 6 || readInt3 <= 0 || readInt2 + readInt3 > bArr.length) {
+            return null;
+        }
+        byte[] bArr2 = new byte[readInt3];
+        System.arraycopy(bArr, readInt2, bArr2, 0, readInt3);
+        return bArr2;
+    }
+
+    private static boolean isLittleEndian(byte[] bArr) {
+        return bArr[6] == 73 && bArr[7] == 73;
+    }
+
+    private static int firstIfdOffset(byte[] bArr, boolean z) {
+        if (!z && (bArr[6] != 77 || bArr[7] != 77)) {
+            return -1;
+        }
+        if (readShort(bArr, 8, z) != 42) {
+            return -1;
+        }
+        int readInt = readInt(bArr, 10, z) + 6;
+        if (readInt < 14 || readInt + 2 > bArr.length) {
+            return -1;
+        }
+        return readInt;
+    }
+
+    private static int findEntry(byte[] bArr, int i, int i2, boolean z) {
+        int readShort = readShort(bArr, i, z);
+        int i3 = i + 2;
+        for (int i4 = 0; i4 < readShort; i4++) {
+            int i5 = (i4 * 12) + i3;
+            if (i5 + 12 > bArr.length) {
+                return -1;
+            }
+            if (readShort(bArr, i5, z) == i2) {
+                return i5;
+            }
+        }
+        return -1;
+    }
+
+    private static int readShort(byte[] bArr, int i, boolean z) {
+        int i2 = bArr[i] & 255;
+        int i3 = bArr[i + 1] & 255;
+        return z ? (i3 << 8) | i2 : (i2 << 8) | i3;
+    }
+
+    private static int readInt(byte[] bArr, int i, boolean z) {
+        int readShort = readShort(bArr, i, z);
+        int readShort2 = readShort(bArr, i + 2, z);
+        return z ? (readShort2 << 16) | readShort : (readShort << 16) | readShort2;
+    }
+
+    /* loaded from: classes.dex */
+    private static final class Reader {
+        private final InputStream in;
+        private int remaining;
+        boolean truncated;
+
+        Reader(InputStream inputStream, int i) {
+            this.in = inputStream;
+            this.remaining = i;
+        }
+
+        int readUnsignedByte() throws IOException {
+            int i = this.remaining;
+            if (i <= 0) {
+                this.truncated = true;
+                return -1;
+            }
+            this.remaining = i - 1;
+            return this.in.read();
+        }
+
+        int readUnsignedShort() throws IOException {
+            int readUnsignedByte = readUnsignedByte();
+            int readUnsignedByte2 = readUnsignedByte();
+            if ((readUnsignedByte | readUnsignedByte2) < 0) {
+                return -1;
+            }
+            return (readUnsignedByte << 8) | readUnsignedByte2;
+        }
+
+        boolean readFully(byte[] bArr, int i, int i2) throws IOException {
+            if (i2 > this.remaining) {
+                this.truncated = true;
+                return false;
+            }
+            int i3 = 0;
+            while (i3 < i2) {
+                int read = this.in.read(bArr, i + i3, i2 - i3);
+                if (read == -1) {
+                    return false;
+                }
+                i3 += read;
+            }
+            this.remaining -= i2;
+            return true;
+        }
+
+        boolean skip(int i) throws IOException {
+            if (i > this.remaining) {
+                this.truncated = true;
+                return false;
+            }
+            this.remaining -= i;
+            while (i > 0) {
+                long skip = this.in.skip(i);
+                if (skip <= 0) {
+                    if (this.in.read() == -1) {
+                        return false;
+                    }
+                    skip = 1;
+                }
+                i = (int) (i - skip);
+            }
+            return true;
+        }
+    }
+}
@@ -1,14 +1,26 @@
 package com.squareup.picasso;
 
 import android.content.Context;
-import android.media.ExifInterface;
-import android.net.Uri;
 import com.squareup.picasso.Picasso;
 import com.squareup.picasso.RequestHandler;
+import java.io.BufferedInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
 /* JADX INFO: Access modifiers changed from: package-private */
 /* loaded from: classes.dex */
 public class FileRequestHandler extends ContentStreamRequestHandler {
+    private static final int EXIF_CACHE_SIZE = 256;
+    private static final int EXIF_SNIFF_LIMIT = 65536;
+    private static final Map<String, long[]> EXIF_ROTATION_CACHE = new LinkedHashMap<String, long[]>(0, 0.75f, true) { // from class: com.squareup.picasso.FileRequestHandler.1
+        @Override // java.util.LinkedHashMap
+        protected boolean removeEldestEntry(Map.Entry<String, long[]> entry) {
+            return size() > EXIF_CACHE_SIZE;
+        }
+    };
+
     /* JADX INFO: Access modifiers changed from: package-private */
     public FileRequestHandler(Context context) {
         super(context);
@@ -21,17 +33,48 @@ public class FileRequestHandler extends ContentStreamRequestHandler {
 
     @Override // com.squareup.picasso.ContentStreamRequestHandler, com.squareup.picasso.RequestHandler
     public RequestHandler.Result load(Request request, int i) throws IOException {
-        return new RequestHandler.Result(null, getInputStream(request), Picasso.LoadedFrom.DISK, getFileExifRotation(request.uri));
+        String path = request.uri.getPath();
+        long lastModified = path != null ? new File(path).lastModified() : 0L;
+        int cachedExifRotation = getCachedExifRotation(path, lastModified);
+        InputStream inputStream = getInputStream(request);
+        if (cachedExifRotation != -1) {
+            return new RequestHandler.Result(null, inputStream, Picasso.LoadedFrom.DISK, cachedExifRotation);
+        }
+        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream, 4096);
+        bufferedInputStream.mark(EXIF_SNIFF_LIMIT);
+        try {
+            int readOrientation = ExifParser.readOrientation(bufferedInputStream, EXIF_SNIFF_LIMIT);
+            bufferedInputStream.reset();
+            int rotation = ExifParser.toRotation(readOrientation);
+            if (readOrientation != -1) {
+                putCachedExifRotation(path, lastModified, rotation);
+            }
+            return new RequestHandler.Result(null, bufferedInputStream, Picasso.LoadedFrom.DISK, rotation);
+        } catch (IOException e) {
+            Utils.closeQuietly(bufferedInputStream);
+            throw e;
+        }
     }
 
-    static int getFileExifRotation(Uri uri) throws IOException {
-        int attributeInt = new ExifInterface(uri.getPath()).getAttributeInt("Orientation", 1);
-        if (attributeInt != 3) {
-            if (attributeInt != 6) {
-                return attributeInt != 8 ? 0 : 270;
+    static int getCachedExifRotation(String str, long j) {
+        if (str == null || j == 0) {
+            return -1;
+        }
+        synchronized (EXIF_ROTATION_CACHE) {
+            long[] jArr = EXIF_ROTATION_CACHE.get(str);
+            if (jArr == null || jArr[0] != j) {
+                return -1;
             }
-            return 90;
+            return (int) jArr[1];
+        }
+    }
+
+    static void putCachedExifRotation(String str, long j, int i) {
+        if (str == null || j == 0) {
+            return;
+        }
+        synchronized (EXIF_ROTATION_CACHE) {
+            EXIF_ROTATION_CACHE.put(str, new long[]{j, i});
         }
-        return 180;
     }
 }
@@ -0,0 +1,106 @@
+package com.squareup.picasso;
+
+import android.graphics.Bitmap;
+import com.squareup.picasso.Picasso;
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public class FutureAction extends Action<Object> implements Future<Bitmap> {
+    private final CountDownLatch done;
+    private volatile boolean failed;
+    private volatile Bitmap result;
+    private final Object target;
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public FutureAction(Picasso picasso, Request request, int i, int i2, Object obj, String str) {
+        super(picasso, null, request, i, i2, 0, null, str, obj, false);
+        this.target = new Object();
+        this.done = new CountDownLatch(1);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public static FutureAction completed(Picasso picasso, Request request, String str, Bitmap bitmap) {
+        FutureAction futureAction = new FutureAction(picasso, request, 0, 0, null, str);
+        futureAction.complete(bitmap, Picasso.LoadedFrom.MEMORY);
+        return futureAction;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    @Override // com.squareup.picasso.Action
+    public void complete(Bitmap bitmap, Picasso.LoadedFrom loadedFrom) {
+        this.result = bitmap;
+        finish();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    @Override // com.squareup.picasso.Action
+    public void error() {
+        this.failed = true;
+        finish();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    @Override // com.squareup.picasso.Action
+    public void cancel() {
+        super.cancel();
+        finish();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    @Override // com.squareup.picasso.Action
+    public Object getTarget() {
+        return this.target;
+    }
+
+    @Override // java.util.concurrent.Future
+    public boolean cancel(boolean z) {
+        if (isDone()) {
+            return false;
+        }
+        cancel();
+        this.picasso.dispatcher.dispatchCancel(this);
+        return true;
+    }
+
+    @Override // java.util.concurrent.Future
+    public boolean isDone() {
+        return this.done.getCount() == 0;
+    }
+
+    @Override // java.util.concurrent.Future
+    public Bitmap get() throws InterruptedException, ExecutionException {
+        Utils.checkNotMain();
+        this.done.await();
+        return getResultOrThrow();
+    }
+
+    @Override // java.util.concurrent.Future
+    public Bitmap get(long j, TimeUnit timeUnit) throws InterruptedException, ExecutionException, TimeoutException {
+        Utils.checkNotMain();
+        if (this.done.await(j, timeUnit)) {
+            return getResultOrThrow();
+        }
+        throw new TimeoutException("Timed out waiting for " + this.request.plainId());
+    }
+
+    private void finish() {
+        this.picasso.pendingFutures.remove(this);
+        this.done.countDown();
+    }
+
+    private Bitmap getResultOrThrow() throws ExecutionException {
+        if (isCancelled()) {
+            throw new CancellationException("Request " + this.request.plainId() + " was canceled.");
+        }
+        if (this.failed) {
+            throw new ExecutionException(new IOException("Failed to load " + this.request));
+        }
+        return this.result;
+    }
+}
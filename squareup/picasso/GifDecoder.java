@@ -0,0 +1,378 @@
+package com.squareup.picasso;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class GifDecoder {
+    private static final int DEFAULT_DELAY_MS = 100;
+    private static final int DISPOSE_BACKGROUND = 2;
+    private static final int DISPOSE_PREVIOUS = 3;
+    private static final int MAX_CODE_COUNT = 4096;
+    private static final int MAX_PIXEL_COUNT = 16777216;
+    private final byte[] data;
+    private final int[] delays;
+    private final List<Frame> frames;
+    final int height;
+    private byte[] indexes;
+    private int[] palette;
+    private final int[] pixels;
+    private byte[] pixelStack;
+    private short[] prefix;
+    private int renderedIndex = -1;
+    private int[] restore;
+    private byte[] suffix;
+    final int width;
+
+    private GifDecoder(byte[] bArr, int i, int i2, List<Frame> list) {
+        this.data = bArr;
+        this.width = i;
+        this.height = i2;
+        this.frames = list;
+        this.pixels = new int[i * i2];
+        this.delays = new int[list.size()];
+        int size = list.size();
+        for (int i3 = 0; i3 < size; i3++) {
+            int i4 = list.get(i3).delay;
+            this.delays[i3] = i4 <= 1 ? DEFAULT_DELAY_MS : i4 * 10;
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public static GifDecoder parse(byte[] bArr) {
+        if (bArr.length < 13 || !Utils.isGifFile(bArr)) {
+            return null;
+        }
+        int readShort = readShort(bArr, 6);
+        int readShort2 = readShort(bArr, 8);
+        if (readShort <= 0 || readShort2 <= 0 || ((long) readShort) * readShort2 > MAX_PIXEL_COUNT) {
+            return null;
+        }
+        int i = bArr[10] & 255;
+        int i2 = 13;
+        int i3 = -1;
+        int i4 = 0;
+        if ((i & 128) != 0) {
+            i4 = 2 << (i & 7);
+            i3 = 13;
+            i2 = (i4 * 3) + 13;
+        }
+        ArrayList arrayList = new ArrayList();
+        int i5 = 0;
+        int i6 = 0;
+        int i7 = -1;
+        while (i2 < bArr.length) {
+            int i8 = i2 + 1;
+            int i9 = bArr[i2] & 255;
+            if (i9 == 33) {
+                if (i8 >= bArr.length) {
+                    break;
+                }
+                int i10 = bArr[i8] & 255;
+                i2 = i8 + 1;
+                if (i10 == 249 && i2 + 5 < bArr.length && (bArr[i2] & 255) >= 4) {
+                    int i11 = bArr[i2 + 1] & 255;
+                    i5 = (i11 >> 2) & 7;
+                    i6 = readShort(bArr, i2 + 2);
+                    i7 = (i11 & 1) != 0 ? bArr[i2 + 4] & 255 : -1;
+                }
+                i2 = skipBlocks(bArr, i2);
+            } else if (i9 != 44) {
+                break;
+            } else if (i8 + 9 > bArr.length) {
+                break;
+            } else {
+                Frame frame = new Frame();
+                frame.x = readShort(bArr, i8);
+                frame.y = readShort(bArr, i8 + 2);
+                frame.width = readShort(bArr, i8 + 4);
+                frame.height = readShort(bArr, i8 + 6);
+                int i12 = bArr[i8 + 8] & 255;
+                frame.interlaced = (i12 & 64) != 0;
+                frame.dispose = i5;
+                frame.delay = i6;
+                frame.transparentIndex = i7;
+                int i13 = i8 + 9;
+                if ((i12 & 128) != 0) {
+                    frame.paletteOffset = i13;
+                    frame.paletteSize = 2 << (i12 & 7);
+                    i13 += frame.paletteSize * 3;
+                } else {
+                    frame.paletteOffset = i3;
+                    frame.paletteSize = i4;
+                }
+                if (i13 >= bArr.length || frame.paletteOffset < 0 || frame.width <= 0 || frame.height <= 0) {
+                    break;
+                }
+                frame.dataOffset = i13;
+                i2 = skipBlocks(bArr, i13 + 1);
+                arrayList.add(frame);
+                i5 = 0;
+                i6 = 0;
+                i7 = -1;
+            }
+        }
+        if (arrayList.isEmpty()) {
+            return null;
+        }
+        return new GifDecoder(bArr, readShort, readShort2, arrayList);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public int frameCount() {
+        return this.frames.size();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public int[] delays() {
+        return this.delays;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public int[] render(int i) {
+        if (i <= this.renderedIndex) {
+            Arrays.fill(this.pixels, 0);
+            this.renderedIndex = -1;
+        }
+        while (this.renderedIndex < i) {
+            int i2 = this.renderedIndex;
+            if (i2 >= 0) {
+                dispose(this.frames.get(i2));
+            }
+            int i3 = i2 + 1;
+            this.renderedIndex = i3;
+            draw(this.frames.get(i3));
+        }
+        return this.pixels;
+    }
+
+    private void dispose(Frame frame) {
+        int i = frame.dispose;
+        if (i == DISPOSE_BACKGROUND) {
+            int min = Math.min(frame.x + frame.width, this.width);
+            int min2 = Math.min(frame.y + frame.height, this.height);
+            for (int i2 = frame.y; i2 < min2; i2++) {
+                int i3 = this.width * i2;
+                if (frame.x < min) {
+                    Arrays.fill(this.pixels, frame.x + i3, i3 + min, 0);
+                }
+            }
+        } else if (i == DISPOSE_PREVIOUS && this.restore != null) {
+            int[] iArr = this.restore;
+            System.arraycopy(iArr, 0, this.pixels, 0, iArr.length);
+        }
+    }
+
+    private void draw(Frame frame) {
+        int i;
+        if (frame.dispose == DISPOSE_PREVIOUS) {
+            int[] iArr = this.restore;
+            if (iArr == null) {
+                this.restore = (int[]) this.pixels.clone();
+            } else {
+                System.arraycopy(this.pixels, 0, iArr, 0, iArr.length);
+            }
+        }
+        readPalette(frame);
+        int i2 = frame.width * frame.height;
+        byte[] bArr = this.indexes;
+        if (bArr == null || bArr.length < i2) {
+            this.indexes = new byte[i2];
+        }
+        decodeIndexes(frame, i2);
+        int i3 = 8;
+        int i4 = 0;
+        int i5 = 1;
+        for (int i6 = 0; i6 < frame.height; i6++) {
+            if (frame.interlaced) {
+                if (i4 >= frame.height) {
+                    i5++;
+                    if (i5 == 2) {
+                        i4 = 4;
+                    } else if (i5 == 3) {
+                        i3 = 4;
+                        i4 = 2;
+                    } else if (i5 == 4) {
+                        i3 = 2;
+                        i4 = 1;
+                    }
+                }
+                i = i4;
+                i4 += i3;
+            } else {
+                i = i6;
+            }
+            int i7 = frame.y + i;
+            if (i7 < this.height) {
+                int i8 = frame.width * i6;
+                int i9 = this.width * i7;
+                int min = Math.min(frame.width, this.width - frame.x);
+                for (int i10 = 0; i10 < min; i10++) {
+                    int i11 = this.indexes[i8 + i10] & 255;
+                    if (i11 != frame.transparentIndex) {
+                        this.pixels[frame.x + i9 + i10] = this.palette[i11];
+                    }
+                }
+            }
+        }
+    }
+
+    private void readPalette(Frame frame) {
+        int[] iArr = this.palette;
+        if (iArr == null) {
+            this.palette = new int[256];
+            iArr = this.palette;
+        }
+        Arrays.fill(iArr, 0);
+        int min = Math.min(frame.paletteSize, (this.data.length - frame.paletteOffset) / 3);
+        int i = frame.paletteOffset;
+        for (int i2 = 0; i2 < min; i2++) {
+            byte[] bArr = this.data;
+            iArr[i2] = ((bArr[i] & 255) << 16) | (-16777216) | ((bArr[i + 1] & 255) << 8) | (bArr[i + 2] & 255);
+            i += 3;
+        }
+    }
+
+    private void decodeIndexes(Frame frame, int i) {
+        int i2;
+        int i3;
+        if (this.prefix == null) {
+            this.prefix = new short[MAX_CODE_COUNT];
+            this.suffix = new byte[MAX_CODE_COUNT];
+            this.pixelStack = new byte[4097];
+        }
+        byte[] bArr = this.data;
+        int i4 = frame.dataOffset;
+        int i5 = i4 + 1;
+        int i6 = bArr[i4] & 255;
+        int i7 = 0;
+        if (i6 < 1 || i6 > 11) {
+            Arrays.fill(this.indexes, 0, i, (byte) 0);
+            return;
+        }
+        int i8 = 1 << i6;
+        int i9 = i8 + 1;
+        int i10 = i8 + 2;
+        int i11 = i6 + 1;
+        int i12 = (1 << i11) - 1;
+        for (int i13 = 0; i13 < i8; i13++) {
+            this.prefix[i13] = 0;
+            this.suffix[i13] = (byte) i13;
+        }
+        int i14 = -1;
+        int i15 = 0;
+        int i16 = 0;
+        int i17 = 0;
+        int i18 = 0;
+        int i19 = 0;
+        while (true) {
+            if (i7 >= i) {
+                break;
+            }
+            if (i19 == 0) {
+                if (i16 < i11) {
+                    if (i17 == 0) {
+                        if (i5 >= bArr.length || (i17 = bArr[i5] & 255) == 0) {
+                            break;
+                        }
+                        i5++;
+                    }
+                    if (i5 >= bArr.length) {
+                        break;
+                    }
+                    i15 += (bArr[i5] & 255) << i16;
+                    i16 += 8;
+                    i5++;
+                    i17--;
+                } else {
+                    int i20 = i15 & i12;
+                    i15 >>= i11;
+                    i16 -= i11;
+                    if (i20 > i10 || i20 == i9) {
+                        break;
+                    }
+                    if (i20 == i8) {
+                        i11 = i6 + 1;
+                        i12 = (1 << i11) - 1;
+                        i10 = i8 + 2;
+                        i14 = -1;
+                    } else if (i14 == -1) {
+                        this.pixelStack[i19] = this.suffix[i20];
+                        i18 = i20;
+                        i14 = i20;
+                        i19++;
+                    } else {
+                        if (i20 == i10) {
+                            i2 = i19 + 1;
+                            this.pixelStack[i19] = (byte) i18;
+                            i3 = i14;
+                        } else {
+                            i2 = i19;
+                            i3 = i20;
+                        }
+                        while (i3 > i8) {
+                            this.pixelStack[i2] = this.suffix[i3];
+                            i3 = this.prefix[i3];
+                            i2++;
+                        }
+                        i18 = this.suffix[i3] & 255;
+                        i19 = i2 + 1;
+                        this.pixelStack[i2] = (byte) i18;
+                        if (i10 < MAX_CODE_COUNT) {
+                            this.prefix[i10] = (short) i14;
+                            this.suffix[i10] = (byte) i18;
+                            i10++;
+                            if ((i10 & i12) == 0 && i10 < MAX_CODE_COUNT) {
+                                i11++;
+                                i12 += i10;
+                            }
+                        }
+                        i14 = i20;
+                    }
+                }
+            } else {
+                i19--;
+                this.indexes[i7] = this.pixelStack[i19];
+                i7++;
+            }
+        }
+        if (i7 < i) {
+            Arrays.fill(this.indexes, i7, i, (byte) 0);
+        }
+    }
+
+    private static int skipBlocks(byte[] bArr, int i) {
+        while (i < bArr.length) {
+            int i2 = bArr[i] & 255;
+            int i3 = i + 1;
+            if (i2 == 0) {
+                return i3;
+            }
+            i = i3 + i2;
+        }
+        return bArr.length;
+    }
+
+    private static int readShort(byte[] bArr, int i) {
+        return ((bArr[i + 1] & 255) << 8) | (bArr[i] & 255);
+    }
+
+    /* loaded from: classes.dex */
+    private static final class Frame {
+        int dataOffset;
+        int delay;
+        int dispose;
+        int height;
+        boolean interlaced;
+        int paletteOffset;
+        int paletteSize;
+        int transparentIndex;
+        int width;
+        int x;
+        int y;
+
+        Frame() {
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.squareup.picasso;
+
+import android.content.ContentResolver;
+import android.content.ContentUris;
+import android.database.ContentObserver;
+import android.database.Cursor;
+import android.net.Uri;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class MediaStoreMetadataCache {
+    private static final int DEFAULT_MAX_SIZE = 2048;
+    private static final int DEFAULT_WINDOW_SIZE = 128;
+    private static final String[] IMAGE_PROJECTION = {"_id", "orientation", "mime_type", "width", "height", "date_modified"};
+    private static final Uri MEDIA_URI = Uri.parse("content://media");
+    private static final String[] VIDEO_PROJECTION = {"_id", "mime_type", "width", "height", "date_modified"};
+    private final Map<String, Metadata> cache;
+    private final ContentResolver contentResolver;
+    private int generation;
+    private final int maxSize;
+    private boolean observing;
+    private final ContentObserver observer;
+    private boolean shutdown;
+    private final int windowSize;
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public MediaStoreMetadataCache(ContentResolver contentResolver) {
+        this(contentResolver, DEFAULT_MAX_SIZE, DEFAULT_WINDOW_SIZE);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public MediaStoreMetadataCache(ContentResolver contentResolver, int i, int i2) {
+        this.contentResolver = contentResolver;
+        this.maxSize = i;
+        this.windowSize = i2;
+        this.cache = new LinkedHashMap<String, Metadata>(0, 0.75f, true) { // from class: com.squareup.picasso.MediaStoreMetadataCache.1
+            @Override // java.util.LinkedHashMap
+            protected boolean removeEldestEntry(Map.Entry<String, Metadata> entry) {
+                return size() > MediaStoreMetadataCache.this.maxSize;
+            }
+        };
+        this.observer = new ContentObserver(null) { // from class: com.squareup.picasso.MediaStoreMetadataCache.2
+            @Override // android.database.ContentObserver
+            public void onChange(boolean z) {
+                MediaStoreMetadataCache.this.clear();
+            }
+        };
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public Metadata get(Uri uri) {
+        int i;
+        registerObserverIfNeeded();
+        String uri2 = uri.toString();
+        synchronized (this) {
+            Metadata metadata = this.cache.get(uri2);
+            if (metadata != null) {
+                return metadata;
+            }
+            i = this.generation;
+        }
+        Uri collectionUri = getCollectionUri(uri);
+        if (collectionUri != null) {
+            long parseId = ContentUris.parseId(uri);
+            long max = Math.max(0L, parseId - (this.windowSize / 2));
+            prefetch(collectionUri, max, (this.windowSize + max) - 1);
+            synchronized (this) {
+                Metadata metadata2 = this.cache.get(uri2);
+                if (metadata2 != null) {
+                    return metadata2;
+                }
+            }
+        }
+        Metadata querySingle = querySingle(uri);
+        synchronized (this) {
+            if (i == this.generation && !this.shutdown) {
+                this.cache.put(uri2, querySingle);
+            }
+        }
+        return querySingle;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public synchronized void clear() {
+        this.generation++;
+        this.cache.clear();
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void shutdown() {
+        synchronized (this) {
+            if (this.shutdown) {
+                return;
+            }
+            this.shutdown = true;
+            clear();
+            if (!this.observing) {
+                return;
+            }
+            this.observing = false;
+        }
+        try {
+            this.contentResolver.unregisterContentObserver(this.observer);
+        } catch (RuntimeException unused) {
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void prefetch(Uri uri, long j, long j2) {
+        int i6;
+        synchronized (this) {
+            i6 = this.generation;
+        }
+        boolean isImages = isImages(uri);
+        Cursor cursor = null;
+        try {
+            cursor = this.contentResolver.query(uri, isImages ? IMAGE_PROJECTION : VIDEO_PROJECTION, "_id BETWEEN ? AND ?", new String[]{Long.toString(j), Long.toString(j2)}, null);
+            if (cursor == null) {
+                return;
+            }
+            int i = isImages ? 1 : -1;
+            int i2 = isImages ? 2 : 1;
+            int i3 = i2 + 1;
+            int i4 = i2 + 2;
+            int i5 = i2 + 3;
+            LinkedHashMap linkedHashMap = new LinkedHashMap(cursor.getCount());
+            while (cursor.moveToNext()) {
+                linkedHashMap.put(ContentUris.withAppendedId(uri, cursor.getLong(0)).toString(), new Metadata(i == -1 ? 0 : cursor.getInt(i), cursor.getString(i2), cursor.getInt(i3), cursor.getInt(i4), cursor.getLong(i5)));
+            }
+            synchronized (this) {
+                if (i6 == this.generation && !this.shutdown) {
+                    this.cache.putAll(linkedHashMap);
+                }
+            }
+        } catch (RuntimeException unused) {
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+    }
+
+    private Metadata querySingle(Uri uri) {
+        return new Metadata(MediaStoreRequestHandler.getExifOrientation(this.contentResolver, uri), this.contentResolver.getType(uri), 0, 0, 0L);
+    }
+
+    private synchronized void registerObserverIfNeeded() {
+        if (this.observing || this.shutdown) {
+            return;
+        }
+        this.observing = true;
+        try {
+            this.contentResolver.registerContentObserver(MEDIA_URI, true, this.observer);
+        } catch (RuntimeException unused) {
+        }
+    }
+
+    static Uri getCollectionUri(Uri uri) {
+        List<String> pathSegments = uri.getPathSegments();
+        int size = pathSegments.size();
+        if (size != 4 || !"media".equals(pathSegments.get(2))) {
+            return null;
+        }
+        String str = pathSegments.get(1);
+        if (!"images".equals(str) && !"video".equals(str)) {
+            return null;
+        }
+        try {
+            Long.parseLong(pathSegments.get(3));
+            return uri.buildUpon().path(null).appendPath(pathSegments.get(0)).appendPath(str).appendPath("media").build();
+        } catch (NumberFormatException unused) {
+            return null;
+        }
+    }
+
+    private static boolean isImages(Uri uri) {
+        List<String> pathSegments = uri.getPathSegments();
+        return pathSegments.size() > 1 && "images".equals(pathSegments.get(1));
+    }
+
+    /* loaded from: classes.dex */
+    static final class Metadata {
+        final long dateModified;
+        final int height;
+        final String mimeType;
+        final int orientation;
+        final int width;
+
+        Metadata(int i, String str, int i2, int i3, long j) {
+            this.orientation = i;
+            this.mimeType = str;
+            this.width = i2;
+            this.height = i3;
+            this.dateModified = j;
+        }
+
+        /* JADX INFO: Access modifiers changed from: package-private */
+        public boolean isVideo() {
+            String str = this.mimeType;
+            return str != null && str.startsWith("video/");
+        }
+
+        /* JADX INFO: Access modifiers changed from: package-private */
+        public boolean hasSize() {
+            return this.width > 0 && this.height > 0;
+        }
+    }
+}
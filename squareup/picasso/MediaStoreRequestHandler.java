@@ -10,15 +10,26 @@ import android.net.Uri;
 import android.provider.MediaStore;
 import com.squareup.picasso.Picasso;
 import com.squareup.picasso.RequestHandler;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 /* JADX INFO: Access modifiers changed from: package-private */
 /* loaded from: classes.dex */
 public class MediaStoreRequestHandler extends ContentStreamRequestHandler {
     private static final String[] CONTENT_ORIENTATION = {"orientation"};
+    private static final int EXIF_SNIFF_LIMIT = 65536;
+    private static final int EXIF_THUMBNAIL_MAX_SIZE = 160;
+    private static final int MAX_SAMPLE_SIZE = 64;
+    private final MediaStoreMetadataCache metadataCache;
+    private final ThumbnailDiskCache thumbnailCache;
 
     /* JADX INFO: Access modifiers changed from: package-private */
     public MediaStoreRequestHandler(Context context) {
         super(context);
+        this.metadataCache = new MediaStoreMetadataCache(context.getContentResolver());
+        this.thumbnailCache = new ThumbnailDiskCache(context);
     }
 
     @Override // com.squareup.picasso.ContentStreamRequestHandler, com.squareup.picasso.RequestHandler
@@ -31,14 +42,24 @@ public class MediaStoreRequestHandler extends ContentStreamRequestHandler {
     public RequestHandler.Result load(Request request, int i) throws IOException {
         Bitmap thumbnail;
         ContentResolver contentResolver = this.context.getContentResolver();
-        int exifOrientation = getExifOrientation(contentResolver, request.uri);
-        String type = contentResolver.getType(request.uri);
-        boolean z = type != null && type.startsWith("video/");
+        MediaStoreMetadataCache.Metadata metadata = this.metadataCache.get(request.uri);
+        int exifOrientation = metadata.orientation;
+        boolean z = metadata.isVideo();
         if (request.hasSize()) {
             PicassoKind picassoKind = getPicassoKind(request.targetWidth, request.targetHeight);
             if (!z && picassoKind == PicassoKind.FULL) {
+                RequestHandler.Result loadSampledOriginal = loadSampledOriginal(request, metadata);
+                if (loadSampledOriginal != null) {
+                    return loadSampledOriginal;
+                }
                 return new RequestHandler.Result(null, getInputStream(request), Picasso.LoadedFrom.DISK, exifOrientation);
             }
+            if (!z && picassoKind == PicassoKind.MINI && request.targetWidth <= EXIF_THUMBNAIL_MAX_SIZE && request.targetHeight <= EXIF_THUMBNAIL_MAX_SIZE) {
+                Bitmap loadExifThumbnail = loadExifThumbnail(request, exifOrientation);
+                if (loadExifThumbnail != null) {
+                    return new RequestHandler.Result(loadExifThumbnail, null, Picasso.LoadedFrom.DISK, exifOrientation);
+                }
+            }
             long parseId = ContentUris.parseId(request.uri);
             BitmapFactory.Options createBitmapOptions = createBitmapOptions(request);
             createBitmapOptions.inJustDecodeBounds = true;
@@ -55,6 +76,96 @@ public class MediaStoreRequestHandler extends ContentStreamRequestHandler {
         return new RequestHandler.Result(null, getInputStream(request), Picasso.LoadedFrom.DISK, exifOrientation);
     }
 
+    @Override // com.squareup.picasso.RequestHandler
+    public void shutdown() {
+        this.metadataCache.shutdown();
+    }
+
+    private Bitmap loadExifThumbnail(Request request, int i) {
+        InputStream inputStream = null;
+        try {
+            inputStream = new BufferedInputStream(getInputStream(request), 4096);
+            byte[] readThumbnail = ExifParser.readThumbnail(inputStream, EXIF_SNIFF_LIMIT);
+            if (readThumbnail == null) {
+                return null;
+            }
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeByteArray(readThumbnail, 0, readThumbnail.length, options);
+            boolean isTransposed = isTransposed(i);
+            if (!covers(options.outWidth, options.outHeight, isTransposed ? request.targetHeight : request.targetWidth, isTransposed ? request.targetWidth : request.targetHeight)) {
+                return null;
+            }
+            options.inJustDecodeBounds = false;
+            if (request.config != null) {
+                options.inPreferredConfig = request.config;
+            }
+            return BitmapFactory.decodeByteArray(readThumbnail, 0, readThumbnail.length, options);
+        } catch (IOException unused) {
+            return null;
+        } finally {
+            Utils.closeQuietly(inputStream);
+        }
+    }
+
+    private RequestHandler.Result loadSampledOriginal(Request request, MediaStoreMetadataCache.Metadata metadata) throws IOException {
+        if (!metadata.hasSize() || metadata.dateModified == 0) {
+            return null;
+        }
+        boolean isTransposed = isTransposed(metadata.orientation);
+        int coveringSampleSize = getCoveringSampleSize(metadata.width, metadata.height, isTransposed ? request.targetHeight : request.targetWidth, isTransposed ? request.targetWidth : request.targetHeight);
+        if (coveringSampleSize < 2) {
+            return null;
+        }
+        long parseId = ContentUris.parseId(request.uri);
+        for (int i = coveringSampleSize; i >= 2; i /= 2) {
+            File file = this.thumbnailCache.get(getThumbnailKey(parseId, metadata.dateModified, i));
+            if (file != null) {
+                return new RequestHandler.Result(null, new FileInputStream(file), Picasso.LoadedFrom.DISK, metadata.orientation);
+            }
+        }
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = coveringSampleSize;
+        if (request.config != null) {
+            options.inPreferredConfig = request.config;
+        }
+        InputStream inputStream = getInputStream(request);
+        try {
+            Bitmap decodeStream = BitmapFactory.decodeStream(inputStream, null, options);
+            if (decodeStream == null) {
+                return null;
+            }
+            this.thumbnailCache.put(getThumbnailKey(parseId, metadata.dateModified, coveringSampleSize), decodeStream);
+            return new RequestHandler.Result(decodeStream, null, Picasso.LoadedFrom.DISK, metadata.orientation);
+        } finally {
+            Utils.closeQuietly(inputStream);
+        }
+    }
+
+    static int getCoveringSampleSize(int i, int i2, int i3, int i4) {
+        int i5 = 1;
+        while (i5 < MAX_SAMPLE_SIZE) {
+            int i6 = i5 * 2;
+            if (!covers(i / i6, i2 / i6, i3, i4)) {
+                break;
+            }
+            i5 = i6;
+        }
+        return i5;
+    }
+
+    private static boolean covers(int i, int i2, int i3, int i4) {
+        return i > 0 && i2 > 0 && i >= i3 && i2 >= i4;
+    }
+
+    private static boolean isTransposed(int i) {
+        return i == 90 || i == 270;
+    }
+
+    private static String getThumbnailKey(long j, long j2, int i) {
+        return "image-" + j + '-' + j2 + "-s" + i;
+    }
+
     static PicassoKind getPicassoKind(int i, int i2) {
         if (i <= PicassoKind.MICRO.width && i2 <= PicassoKind.MICRO.height) {
             return PicassoKind.MICRO;
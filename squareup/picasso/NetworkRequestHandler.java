@@ -15,6 +15,7 @@ public class NetworkRequestHandler extends RequestHandler {
     private static final String SCHEME_HTTPS = "https";
     private final Downloader downloader;
     private final Stats stats;
+    private final BandwidthThrottle throttle;
 
     @Override // com.squareup.picasso.RequestHandler
     int getRetryCount() {
@@ -27,8 +28,14 @@ public class NetworkRequestHandler extends RequestHandler {
     }
 
     public NetworkRequestHandler(Downloader downloader, Stats stats) {
+        this(downloader, stats, null);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public NetworkRequestHandler(Downloader downloader, Stats stats, BandwidthThrottle bandwidthThrottle) {
         this.downloader = downloader;
         this.stats = stats;
+        this.throttle = bandwidthThrottle;
     }
 
     @Override // com.squareup.picasso.RequestHandler
@@ -59,7 +66,12 @@ public class NetworkRequestHandler extends RequestHandler {
         if (loadedFrom == Picasso.LoadedFrom.NETWORK && load.getContentLength() > 0) {
             this.stats.dispatchDownloadFinished(load.getContentLength());
         }
-        return new RequestHandler.Result(inputStream, loadedFrom);
+        InputStream inputStream2 = inputStream;
+        BandwidthThrottle bandwidthThrottle = this.throttle;
+        if (bandwidthThrottle != null && loadedFrom == Picasso.LoadedFrom.NETWORK) {
+            inputStream2 = bandwidthThrottle.wrap(inputStream);
+        }
+        return new RequestHandler.Result(new CancellableInputStream(inputStream2, inputStream, request, load.getContentLength(), this.stats), loadedFrom);
     }
 
     @Override // com.squareup.picasso.RequestHandler
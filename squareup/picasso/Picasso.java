@@ -6,50 +6,53 @@ import android.net.Uri;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.Message;
-import android.os.Process;
+import android.os.MessageQueue;
 import android.widget.ImageView;
 import android.widget.RemoteViews;
 import androidx.core.internal.view.SupportMenu;
 import com.squareup.picasso.Action;
 import com.squareup.picasso.RemoteViewsAction;
 import java.io.File;
+import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 /* loaded from: classes.dex */
 public class Picasso {
     static final String TAG = "Picasso";
     final Cache cache;
-    private final CleanupThread cleanupThread;
+    private AnimatedImagePipeline animatedImagePipeline;
+    AsyncRequestBinder asyncRequestBinder;
     final Context context;
     final Bitmap.Config defaultBitmapConfig;
+    final DeferredRequestBatcher deferredRequestBatcher;
     final Dispatcher dispatcher;
     boolean indicatorsEnabled;
     private final Listener listener;
     volatile boolean loggingEnabled;
+    final Set<FutureAction> pendingFutures;
+    private final ReferenceCleaner referenceCleaner;
     final ReferenceQueue<Object> referenceQueue;
     private final List<RequestHandler> requestHandlers;
     private final RequestTransformer requestTransformer;
-    boolean shutdown;
+    volatile boolean shutdown;
     final Stats stats;
-    final Map<Object, Action> targetToAction;
-    final Map<ImageView, DeferredRequestCreator> targetToDeferredRequestCreator;
+    final TargetRegistry<Action> targetToAction;
+    final TargetRegistry<DeferredRequestCreator> targetToDeferredRequestCreator;
     static final Handler HANDLER = new Handler(Looper.getMainLooper()) { // from class: com.squareup.picasso.Picasso.1
         @Override // android.os.Handler
         public void handleMessage(Message message) {
             int i = message.what;
-            if (i == 3) {
-                Action action = (Action) message.obj;
-                if (action.getPicasso().loggingEnabled) {
-                    Utils.log("Main", "canceled", action.request.logId(), "target got garbage collected");
-                }
-                action.picasso.cancelExistingRequest(action.getTarget());
-                return;
-            }
             int i2 = 0;
             if (i == 8) {
                 List list = (List) message.obj;
@@ -59,6 +62,9 @@ public class Picasso {
                     bitmapHunter.picasso.complete(bitmapHunter);
                     i2++;
                 }
+                if (size > 0) {
+                    ((BitmapHunter) list.get(0)).picasso.referenceCleaner.drain();
+                }
             } else if (i == 13) {
                 List list2 = (List) message.obj;
                 int size2 = list2.size();
@@ -99,6 +105,10 @@ public class Picasso {
     }
 
     Picasso(Context context, Dispatcher dispatcher, Cache cache, Listener listener, RequestTransformer requestTransformer, List<RequestHandler> list, Stats stats, Bitmap.Config config, boolean z, boolean z2) {
+        this(context, dispatcher, cache, listener, requestTransformer, list, stats, config, z, z2, null);
+    }
+
+    Picasso(Context context, Dispatcher dispatcher, Cache cache, Listener listener, RequestTransformer requestTransformer, List<RequestHandler> list, Stats stats, Bitmap.Config config, boolean z, boolean z2, BandwidthThrottle bandwidthThrottle) {
         this.context = context;
         this.dispatcher = dispatcher;
         this.cache = cache;
@@ -115,18 +125,20 @@ public class Picasso {
         arrayList.add(new ContentStreamRequestHandler(context));
         arrayList.add(new AssetRequestHandler(context));
         arrayList.add(new FileRequestHandler(context));
-        arrayList.add(new NetworkRequestHandler(dispatcher.downloader, stats));
+        arrayList.add(new NetworkRequestHandler(dispatcher.downloader, stats, bandwidthThrottle));
         this.requestHandlers = Collections.unmodifiableList(arrayList);
         this.stats = stats;
-        this.targetToAction = new WeakHashMap();
-        this.targetToDeferredRequestCreator = new WeakHashMap();
+        this.targetToAction = new TargetRegistry<>();
+        this.pendingFutures = Collections.newSetFromMap(new ConcurrentHashMap());
+        this.targetToDeferredRequestCreator = new TargetRegistry<>();
+        this.deferredRequestBatcher = new DeferredRequestBatcher();
         this.indicatorsEnabled = z;
         this.loggingEnabled = z2;
         ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
         this.referenceQueue = referenceQueue;
-        CleanupThread cleanupThread = new CleanupThread(referenceQueue, HANDLER);
-        this.cleanupThread = cleanupThread;
-        cleanupThread.start();
+        ReferenceCleaner referenceCleaner = new ReferenceCleaner(this, referenceQueue);
+        this.referenceCleaner = referenceCleaner;
+        referenceCleaner.start();
     }
 
     public void cancelRequest(ImageView imageView) {
@@ -143,14 +155,24 @@ public class Picasso {
 
     public void cancelTag(Object obj) {
         Utils.checkMain();
-        ArrayList arrayList = new ArrayList(this.targetToAction.values());
-        int size = arrayList.size();
+        if (obj instanceof Action) {
+            Object target = ((Action) obj).getTarget();
+            if (target != null && this.targetToAction.get(target) == obj) {
+                cancelExistingRequest(target);
+            }
+        }
+        List<Action> valuesForTag = this.targetToAction.valuesForTag(obj);
+        int size = valuesForTag.size();
         for (int i = 0; i < size; i++) {
-            Action action = (Action) arrayList.get(i);
-            if (action.getTag().equals(obj)) {
-                cancelExistingRequest(action.getTarget());
+            Object target2 = valuesForTag.get(i).getTarget();
+            if (target2 != null) {
+                cancelExistingRequest(target2);
             }
         }
+        AsyncRequestBinder asyncRequestBinder = this.asyncRequestBinder;
+        if (asyncRequestBinder != null) {
+            asyncRequestBinder.cancelTag(obj);
+        }
     }
 
     public void pauseTag(Object obj) {
@@ -189,6 +211,45 @@ public class Picasso {
         return new RequestCreator(this, null, i);
     }
 
+    public List<Future<Bitmap>> getAllAsync(List<RequestCreator> list) {
+        int size = list.size();
+        ArrayList arrayList = new ArrayList(size);
+        for (int i = 0; i < size; i++) {
+            arrayList.add(list.get(i).getAsync());
+        }
+        return arrayList;
+    }
+
+    /**
+     * Loads every request and waits up to the given time for all of them. A request that fails,
+     * is canceled or does not finish in time is returned as {@code null} in its position; use
+     * {@link #getAllAsync(List)} to tell those cases apart.
+     */
+    public List<Bitmap> getAll(List<RequestCreator> list, long j, TimeUnit timeUnit) throws InterruptedException {
+        Utils.checkNotMain();
+        int size = list.size();
+        List<Future<Bitmap>> allAsync = getAllAsync(list);
+        long nanoTime = System.nanoTime() + timeUnit.toNanos(j);
+        ArrayList arrayList = new ArrayList(size);
+        for (int i2 = 0; i2 < size; i2++) {
+            Future<Bitmap> future = allAsync.get(i2);
+            Bitmap bitmap = null;
+            try {
+                bitmap = future.get(Math.max(0L, nanoTime - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                for (int i3 = i2; i3 < size; i3++) {
+                    allAsync.get(i3).cancel(true);
+                }
+                throw e;
+            } catch (CancellationException | ExecutionException unused) {
+            } catch (TimeoutException unused2) {
+                future.cancel(true);
+            }
+            arrayList.add(bitmap);
+        }
+        return arrayList;
+    }
+
     public void invalidate(Uri uri) {
         if (uri == null) {
             throw new IllegalArgumentException("uri == null");
@@ -248,14 +309,29 @@ public class Picasso {
             return;
         }
         this.cache.clear();
-        this.cleanupThread.shutdown();
+        this.referenceCleaner.shutdown();
         this.stats.shutdown();
         this.dispatcher.shutdown();
         for (DeferredRequestCreator deferredRequestCreator : this.targetToDeferredRequestCreator.values()) {
             deferredRequestCreator.cancel();
         }
         this.targetToDeferredRequestCreator.clear();
+        AsyncRequestBinder asyncRequestBinder = this.asyncRequestBinder;
+        if (asyncRequestBinder != null) {
+            asyncRequestBinder.shutdown();
+        }
+        AnimatedImagePipeline animatedImagePipeline = this.animatedImagePipeline;
+        if (animatedImagePipeline != null) {
+            animatedImagePipeline.shutdown();
+        }
+        int size = this.requestHandlers.size();
+        for (int i = 0; i < size; i++) {
+            this.requestHandlers.get(i).shutdown();
+        }
         this.shutdown = true;
+        for (FutureAction futureAction : this.pendingFutures) {
+            futureAction.cancel();
+        }
     }
 
     /* JADX INFO: Access modifiers changed from: package-private */
@@ -272,17 +348,26 @@ public class Picasso {
         throw new IllegalStateException("Request transformer " + this.requestTransformer.getClass().getCanonicalName() + " returned null for " + request);
     }
 
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public AnimatedImagePipeline animatedImagePipeline() {
+        if (this.animatedImagePipeline == null) {
+            this.animatedImagePipeline = new AnimatedImagePipeline(this);
+        }
+        return this.animatedImagePipeline;
+    }
+
     /* JADX INFO: Access modifiers changed from: package-private */
     public void defer(ImageView imageView, DeferredRequestCreator deferredRequestCreator) {
-        this.targetToDeferredRequestCreator.put(imageView, deferredRequestCreator);
+        this.targetToDeferredRequestCreator.put(imageView, deferredRequestCreator, null);
     }
 
     /* JADX INFO: Access modifiers changed from: package-private */
     public void enqueueAndSubmit(Action action) {
+        this.referenceCleaner.drain();
         Object target = action.getTarget();
         if (target != null && this.targetToAction.get(target) != action) {
             cancelExistingRequest(target);
-            this.targetToAction.put(target, action);
+            this.targetToAction.put(target, action, action.tag != action ? action.tag : null);
         }
         submit(action);
     }
@@ -292,6 +377,16 @@ public class Picasso {
         this.dispatcher.dispatchSubmit(action);
     }
 
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void submitFuture(FutureAction futureAction) {
+        this.pendingFutures.add(futureAction);
+        if (this.shutdown) {
+            futureAction.cancel();
+        } else {
+            submit(futureAction);
+        }
+    }
+
     /* JADX INFO: Access modifiers changed from: package-private */
     public Bitmap quickMemoryCacheCheck(String str) {
         Bitmap bitmap = this.cache.get(str);
@@ -373,6 +468,23 @@ public class Picasso {
         }
     }
 
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void cancelCollected(List<Action> list) {
+        int size = list.size();
+        for (int i = 0; i < size; i++) {
+            Action action = list.get(i);
+            if (!action.isCancelled()) {
+                if (this.loggingEnabled) {
+                    Utils.log("Main", "canceled", action.request.logId(), "target got garbage collected");
+                }
+                action.cancel();
+                this.dispatcher.dispatchCancel(action);
+            }
+        }
+        this.targetToAction.expungeStale();
+        this.targetToDeferredRequestCreator.expungeStale();
+    }
+
     /* JADX INFO: Access modifiers changed from: private */
     public void cancelExistingRequest(Object obj) {
         Utils.checkMain();
@@ -382,55 +494,74 @@ public class Picasso {
             this.dispatcher.dispatchCancel(remove);
         }
         if (obj instanceof ImageView) {
-            DeferredRequestCreator remove2 = this.targetToDeferredRequestCreator.remove((ImageView) obj);
+            DeferredRequestCreator remove2 = this.targetToDeferredRequestCreator.remove(obj);
             if (remove2 != null) {
                 remove2.cancel();
             }
+            AsyncRequestBinder asyncRequestBinder = this.asyncRequestBinder;
+            if (asyncRequestBinder != null) {
+                asyncRequestBinder.cancel((ImageView) obj);
+            }
+            AnimatedImagePipeline animatedImagePipeline = this.animatedImagePipeline;
+            if (animatedImagePipeline != null) {
+                animatedImagePipeline.cancel((ImageView) obj);
+            }
         }
     }
 
     /* loaded from: classes.dex */
-    private static class CleanupThread extends Thread {
-        private final Handler handler;
+    private static class ReferenceCleaner implements MessageQueue.IdleHandler, Runnable {
+        private final WeakReference<Picasso> picasso;
         private final ReferenceQueue<Object> referenceQueue;
+        private volatile boolean shutdown;
 
-        CleanupThread(ReferenceQueue<Object> referenceQueue, Handler handler) {
+        ReferenceCleaner(Picasso picasso, ReferenceQueue<Object> referenceQueue) {
+            this.picasso = new WeakReference<>(picasso);
             this.referenceQueue = referenceQueue;
-            this.handler = handler;
-            setDaemon(true);
-            setName("Picasso-refQueue");
         }
 
-        @Override // java.lang.Thread, java.lang.Runnable
+        void start() {
+            Picasso.HANDLER.post(this);
+        }
+
+        @Override // java.lang.Runnable
         public void run() {
-            Process.setThreadPriority(10);
+            if (this.shutdown) {
+                return;
+            }
+            Looper.myQueue().addIdleHandler(this);
+        }
+
+        @Override // android.os.MessageQueue.IdleHandler
+        public boolean queueIdle() {
+            if (this.shutdown || this.picasso.get() == null) {
+                return false;
+            }
+            drain();
+            return true;
+        }
+
+        void drain() {
+            Picasso picasso;
+            ArrayList arrayList = null;
             while (true) {
-                try {
-                    Action.RequestWeakReference requestWeakReference = (Action.RequestWeakReference) this.referenceQueue.remove(1000L);
-                    Message obtainMessage = this.handler.obtainMessage();
-                    if (requestWeakReference != null) {
-                        obtainMessage.what = 3;
-                        obtainMessage.obj = requestWeakReference.action;
-                        this.handler.sendMessage(obtainMessage);
-                    } else {
-                        obtainMessage.recycle();
-                    }
-                } catch (InterruptedException unused) {
-                    return;
-                } catch (Exception e) {
-                    this.handler.post(new Runnable() { // from class: com.squareup.picasso.Picasso.CleanupThread.1
-                        @Override // java.lang.Runnable
-                        public void run() {
-                            throw new RuntimeException(e);
-                        }
-                    });
-                    return;
+                Reference<? extends Object> poll = this.referenceQueue.poll();
+                if (poll == null) {
+                    break;
                 }
+                if (arrayList == null) {
+                    arrayList = new ArrayList();
+                }
+                arrayList.add(((Action.RequestWeakReference) poll).action);
             }
+            if (arrayList == null || (picasso = this.picasso.get()) == null) {
+                return;
+            }
+            picasso.cancelCollected(arrayList);
         }
 
         void shutdown() {
-            interrupt();
+            this.shutdown = true;
         }
     }
 
@@ -456,6 +587,7 @@ public class Picasso {
 
     /* loaded from: classes.dex */
     public static class Builder {
+        private boolean asyncRequestBinding;
         private Cache cache;
         private final Context context;
         private Bitmap.Config defaultBitmapConfig;
@@ -463,6 +595,9 @@ public class Picasso {
         private boolean indicatorsEnabled;
         private Listener listener;
         private boolean loggingEnabled;
+        private long maxBytesPerSecond;
+        private int maxRequestsPerHost;
+        private int[] preloadResourceIds;
         private List<RequestHandler> requestHandlers;
         private ExecutorService service;
         private RequestTransformer transformer;
@@ -551,6 +686,43 @@ public class Picasso {
             return this;
         }
 
+        public Builder maxRequestsPerHost(int i) {
+            if (i <= 0) {
+                throw new IllegalArgumentException("Max requests per host must be positive.");
+            }
+            this.maxRequestsPerHost = i;
+            return this;
+        }
+
+        public Builder maxBytesPerSecond(long j) {
+            if (j <= 0) {
+                throw new IllegalArgumentException("Max bytes per second must be positive.");
+            }
+            this.maxBytesPerSecond = j;
+            return this;
+        }
+
+        public Builder preloadResources(int... iArr) {
+            if (iArr == null) {
+                throw new IllegalArgumentException("Resource IDs must not be null.");
+            }
+            for (int i : iArr) {
+                if (i == 0) {
+                    throw new IllegalArgumentException("Resource ID must not be zero.");
+                }
+            }
+            if (this.preloadResourceIds != null) {
+                throw new IllegalStateException("Preload resources already set.");
+            }
+            this.preloadResourceIds = (int[]) iArr.clone();
+            return this;
+        }
+
+        public Builder asyncRequestBinding(boolean z) {
+            this.asyncRequestBinding = z;
+            return this;
+        }
+
         @Deprecated
         public Builder debugging(boolean z) {
             return indicatorsEnabled(z);
@@ -581,7 +753,26 @@ public class Picasso {
                 this.transformer = RequestTransformer.IDENTITY;
             }
             Stats stats = new Stats(this.cache);
-            return new Picasso(context, new Dispatcher(context, this.service, Picasso.HANDLER, this.downloader, this.cache, stats), this.cache, this.listener, this.transformer, this.requestHandlers, stats, this.defaultBitmapConfig, this.indicatorsEnabled, this.loggingEnabled);
+            if (this.maxRequestsPerHost > 0) {
+                ExecutorService executorService = this.service;
+                if (!(executorService instanceof PicassoExecutorService)) {
+                    throw new IllegalStateException("Max requests per host requires the default executor service.");
+                }
+                ((PicassoExecutorService) executorService).setMaxRequestsPerHost(this.maxRequestsPerHost, stats);
+            }
+            long j = this.maxBytesPerSecond;
+            BandwidthThrottle bandwidthThrottle = j > 0 ? new BandwidthThrottle(j) : null;
+            Picasso picasso = new Picasso(context, new Dispatcher(context, this.service, Picasso.HANDLER, this.downloader, this.cache, stats), this.cache, this.listener, this.transformer, this.requestHandlers, stats, this.defaultBitmapConfig, this.indicatorsEnabled, this.loggingEnabled, bandwidthThrottle);
+            if (this.asyncRequestBinding && this.transformer != RequestTransformer.IDENTITY) {
+                picasso.asyncRequestBinder = new AsyncRequestBinder();
+            }
+            int[] iArr = this.preloadResourceIds;
+            if (iArr != null) {
+                for (int i : iArr) {
+                    picasso.load(i).priority(Priority.NORMAL).fetch();
+                }
+            }
+            return picasso;
         }
     }
 
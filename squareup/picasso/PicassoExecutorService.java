@@ -1,8 +1,13 @@
 package com.squareup.picasso;
 
 import android.net.NetworkInfo;
+import android.net.Uri;
 import com.squareup.picasso.Picasso;
 import com.squareup.picasso.Utils;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.PriorityBlockingQueue;
@@ -12,6 +17,10 @@ import java.util.concurrent.TimeUnit;
 /* loaded from: classes.dex */
 public class PicassoExecutorService extends ThreadPoolExecutor {
     private static final int DEFAULT_THREAD_COUNT = 3;
+    private int maxRequestsPerHost;
+    private final Map<String, PriorityQueue<PicassoFutureTask>> parkedPerHost = new HashMap();
+    private final Map<String, Integer> runningPerHost = new HashMap();
+    private Stats stats;
 
     /* JADX INFO: Access modifiers changed from: package-private */
     public PicassoExecutorService() {
@@ -68,16 +77,122 @@ public class PicassoExecutorService extends ThreadPoolExecutor {
         setMaximumPoolSize(i);
     }
 
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public synchronized void setMaxRequestsPerHost(int i, Stats stats) {
+        this.maxRequestsPerHost = i;
+        this.stats = stats;
+    }
+
     @Override // java.util.concurrent.AbstractExecutorService, java.util.concurrent.ExecutorService
     public Future<?> submit(Runnable runnable) {
         PicassoFutureTask picassoFutureTask = new PicassoFutureTask((BitmapHunter) runnable);
-        execute(picassoFutureTask);
+        if (acquireHostSlot(picassoFutureTask)) {
+            execute(picassoFutureTask);
+        }
         return picassoFutureTask;
     }
 
+    @Override // java.util.concurrent.ThreadPoolExecutor
+    protected void afterExecute(Runnable runnable, Throwable th) {
+        super.afterExecute(runnable, th);
+        if (runnable instanceof PicassoFutureTask) {
+            PicassoFutureTask releaseHostSlot = releaseHostSlot((PicassoFutureTask) runnable);
+            if (releaseHostSlot != null) {
+                execute(releaseHostSlot);
+            }
+        }
+    }
+
+    private synchronized boolean acquireHostSlot(PicassoFutureTask picassoFutureTask) {
+        String host = getHost(picassoFutureTask.hunter);
+        if (this.maxRequestsPerHost <= 0 || host == null) {
+            return true;
+        }
+        picassoFutureTask.host = host;
+        Integer num = this.runningPerHost.get(host);
+        int intValue = num != null ? num.intValue() : 0;
+        if (intValue < this.maxRequestsPerHost) {
+            this.runningPerHost.put(host, Integer.valueOf(intValue + 1));
+            return true;
+        }
+        PriorityQueue<PicassoFutureTask> priorityQueue = this.parkedPerHost.get(host);
+        if (priorityQueue == null) {
+            priorityQueue = new PriorityQueue<>();
+            this.parkedPerHost.put(host, priorityQueue);
+        }
+        picassoFutureTask.parkedAt = System.nanoTime();
+        priorityQueue.add(picassoFutureTask);
+        Stats stats = this.stats;
+        if (stats != null) {
+            stats.dispatchHostQueued(host, pruneCancelled(priorityQueue));
+        }
+        return false;
+    }
+
+    private synchronized PicassoFutureTask releaseHostSlot(PicassoFutureTask picassoFutureTask) {
+        PicassoFutureTask poll;
+        String str = picassoFutureTask.host;
+        if (str == null) {
+            return null;
+        }
+        picassoFutureTask.host = null;
+        PriorityQueue<PicassoFutureTask> priorityQueue = this.parkedPerHost.get(str);
+        if (priorityQueue != null) {
+            do {
+                poll = priorityQueue.poll();
+                if (poll == null) {
+                    break;
+                }
+            } while (poll.isCancelled());
+            int pruneCancelled = pruneCancelled(priorityQueue);
+            if (pruneCancelled == 0) {
+                this.parkedPerHost.remove(str);
+            }
+            if (poll != null) {
+                poll.host = str;
+                Stats stats = this.stats;
+                if (stats != null) {
+                    stats.dispatchHostDequeued(str, pruneCancelled, System.nanoTime() - poll.parkedAt);
+                }
+                return poll;
+            }
+        }
+        Integer num = this.runningPerHost.get(str);
+        if (num == null || num.intValue() <= 1) {
+            this.runningPerHost.remove(str);
+        } else {
+            this.runningPerHost.put(str, Integer.valueOf(num.intValue() - 1));
+        }
+        return null;
+    }
+
+    private static int pruneCancelled(PriorityQueue<PicassoFutureTask> priorityQueue) {
+        Iterator<PicassoFutureTask> it = priorityQueue.iterator();
+        while (it.hasNext()) {
+            if (it.next().isCancelled()) {
+                it.remove();
+            }
+        }
+        return priorityQueue.size();
+    }
+
+    private static String getHost(BitmapHunter bitmapHunter) {
+        Uri uri = bitmapHunter.getData().uri;
+        if (uri == null) {
+            return null;
+        }
+        String scheme = uri.getScheme();
+        if ("http".equals(scheme) || "https".equals(scheme)) {
+            return uri.getHost();
+        }
+        return null;
+    }
+
     /* loaded from: classes.dex */
     private static final class PicassoFutureTask extends FutureTask<BitmapHunter> implements Comparable<PicassoFutureTask> {
+        String host;
         private final BitmapHunter hunter;
+        long parkedAt;
 
         public PicassoFutureTask(BitmapHunter bitmapHunter) {
             super(bitmapHunter, null);
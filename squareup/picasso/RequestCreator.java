@@ -3,6 +3,7 @@ package com.squareup.picasso;
 import android.app.Notification;
 import android.content.res.Resources;
 import android.graphics.Bitmap;
+import android.graphics.drawable.Animatable;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
 import android.widget.ImageView;
@@ -11,7 +12,12 @@ import com.squareup.picasso.Picasso;
 import com.squareup.picasso.RemoteViewsAction;
 import com.squareup.picasso.Request;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 /* loaded from: classes.dex */
 public class RequestCreator {
@@ -248,6 +254,52 @@ public class RequestCreator {
         return null;
     }
 
+    public Future<Bitmap> getAsync() {
+        long nanoTime = System.nanoTime();
+        if (this.deferred) {
+            throw new IllegalStateException("Fit cannot be used with get.");
+        }
+        if (!this.data.hasImage()) {
+            return FutureAction.completed(this.picasso, null, null, null);
+        }
+        Request createRequest = createRequest(nanoTime);
+        String createKey = Utils.createKey(createRequest, new StringBuilder());
+        if (MemoryPolicy.shouldReadFromMemoryCache(this.memoryPolicy)) {
+            Bitmap quickMemoryCacheCheck = this.picasso.quickMemoryCacheCheck(createKey);
+            if (quickMemoryCacheCheck != null) {
+                if (this.picasso.loggingEnabled) {
+                    String plainId = createRequest.plainId();
+                    Utils.log("Main", "completed", plainId, "from " + Picasso.LoadedFrom.MEMORY);
+                }
+                return FutureAction.completed(this.picasso, createRequest, createKey, quickMemoryCacheCheck);
+            }
+        }
+        FutureAction futureAction = new FutureAction(this.picasso, createRequest, this.memoryPolicy, this.networkPolicy, this.tag, createKey);
+        this.picasso.submitFuture(futureAction);
+        return futureAction;
+    }
+
+    public Bitmap get(long j, TimeUnit timeUnit) throws IOException {
+        Utils.checkNotMain();
+        Future<Bitmap> async = getAsync();
+        try {
+            return async.get(j, timeUnit);
+        } catch (InterruptedException e) {
+            async.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for image.");
+        } catch (ExecutionException e2) {
+            Throwable cause = e2.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        } catch (TimeoutException e3) {
+            async.cancel(true);
+            throw new InterruptedIOException(e3.getMessage());
+        }
+    }
+
     public void fetch() {
         fetch(null);
     }
@@ -369,11 +421,16 @@ public class RequestCreator {
                 if (this.setPlaceholder) {
                     PicassoDrawable.setPlaceholder(imageView, getPlaceholderDrawable());
                 }
-                this.picasso.defer(imageView, new DeferredRequestCreator(this, imageView, callback));
+                this.picasso.defer(imageView, new DeferredRequestCreator(this, imageView, callback, this.picasso.deferredRequestBatcher));
                 return;
             }
             this.data.resize(width, height);
         }
+        AsyncRequestBinder asyncRequestBinder = this.picasso.asyncRequestBinder;
+        if (asyncRequestBinder != null) {
+            intoAsync(asyncRequestBinder, imageView, callback, nanoTime);
+            return;
+        }
         Request createRequest = createRequest(nanoTime);
         String createKey = Utils.createKey(createRequest);
         if (MemoryPolicy.shouldReadFromMemoryCache(this.memoryPolicy) && (quickMemoryCacheCheck = this.picasso.quickMemoryCacheCheck(createKey)) != null) {
@@ -395,6 +452,127 @@ public class RequestCreator {
         this.picasso.enqueueAndSubmit(new ImageViewAction(this.picasso, imageView, createRequest, this.memoryPolicy, this.networkPolicy, this.errorResId, this.errorDrawable, createKey, this.tag, callback, this.noFade));
     }
 
+    public void intoAnimated(ImageView imageView) {
+        intoAnimated(imageView, null);
+    }
+
+    public void intoAnimated(ImageView imageView, Callback callback) {
+        long nanoTime = System.nanoTime();
+        Utils.checkMain();
+        if (imageView == null) {
+            throw new IllegalArgumentException("Target must not be null.");
+        }
+        if (this.deferred) {
+            throw new IllegalStateException("Fit cannot be used with animated images.");
+        }
+        if (!this.data.hasImage()) {
+            this.picasso.cancelRequest(imageView);
+            if (this.setPlaceholder) {
+                PicassoDrawable.setPlaceholder(imageView, getPlaceholderDrawable());
+                return;
+            }
+            return;
+        }
+        Request createRequest = createRequest(nanoTime);
+        String createKey = Utils.createKey(createRequest);
+        this.picasso.cancelRequest(imageView);
+        AnimatedImagePipeline animatedImagePipeline = this.picasso.animatedImagePipeline();
+        if (MemoryPolicy.shouldReadFromMemoryCache(this.memoryPolicy)) {
+            AnimatedFrameDrawable cachedDrawable = animatedImagePipeline.cachedDrawable(createKey);
+            if (cachedDrawable != null) {
+                completeAnimated(imageView, callback, cachedDrawable, null, Picasso.LoadedFrom.MEMORY);
+                return;
+            }
+            Bitmap quickMemoryCacheCheck = this.picasso.quickMemoryCacheCheck(createKey);
+            if (quickMemoryCacheCheck != null) {
+                completeAnimated(imageView, callback, null, quickMemoryCacheCheck, Picasso.LoadedFrom.MEMORY);
+                return;
+            }
+        }
+        if (this.setPlaceholder) {
+            PicassoDrawable.setPlaceholder(imageView, getPlaceholderDrawable());
+        }
+        animatedImagePipeline.load(this, imageView, callback, createRequest, createKey, this.memoryPolicy, this.networkPolicy);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void completeAnimated(ImageView imageView, Callback callback, Drawable drawable, Bitmap bitmap, Picasso.LoadedFrom loadedFrom) {
+        if (drawable != null) {
+            imageView.setImageDrawable(drawable);
+            if (drawable instanceof Animatable) {
+                ((Animatable) drawable).start();
+            }
+        } else {
+            PicassoDrawable.setBitmap(imageView, this.picasso.context, bitmap, loadedFrom, this.noFade, this.picasso.indicatorsEnabled);
+        }
+        if (callback != null) {
+            callback.onSuccess();
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void errorAnimated(ImageView imageView, Callback callback) {
+        int i = this.errorResId;
+        if (i != 0) {
+            imageView.setImageResource(i);
+        } else {
+            Drawable drawable = this.errorDrawable;
+            if (drawable != null) {
+                imageView.setImageDrawable(drawable);
+            }
+        }
+        if (callback != null) {
+            callback.onError();
+        }
+    }
+
+    private void intoAsync(AsyncRequestBinder asyncRequestBinder, ImageView imageView, Callback callback, long j) {
+        Bitmap quickMemoryCacheCheck;
+        Request build = this.data.build();
+        String createKey = Utils.createKey(build);
+        String resolvedKey = asyncRequestBinder.resolvedKey(createKey);
+        if (resolvedKey != null && MemoryPolicy.shouldReadFromMemoryCache(this.memoryPolicy) && (quickMemoryCacheCheck = this.picasso.quickMemoryCacheCheck(resolvedKey)) != null) {
+            this.picasso.cancelRequest(imageView);
+            PicassoDrawable.setBitmap(imageView, this.picasso.context, quickMemoryCacheCheck, Picasso.LoadedFrom.MEMORY, this.noFade, this.picasso.indicatorsEnabled);
+            if (this.picasso.loggingEnabled) {
+                Utils.log("Main", "completed", resolvedKey, "from " + Picasso.LoadedFrom.MEMORY);
+            }
+            if (callback != null) {
+                callback.onSuccess();
+                return;
+            }
+            return;
+        }
+        this.picasso.cancelRequest(imageView);
+        if (this.setPlaceholder) {
+            PicassoDrawable.setPlaceholder(imageView, getPlaceholderDrawable());
+        }
+        asyncRequestBinder.bind(this, imageView, callback, build, createKey, resolvedKey, j);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void completeAsyncBinding(ImageView imageView, Callback callback, Request request, String str, boolean z) {
+        Bitmap quickMemoryCacheCheck;
+        if (z && MemoryPolicy.shouldReadFromMemoryCache(this.memoryPolicy) && (quickMemoryCacheCheck = this.picasso.quickMemoryCacheCheck(str)) != null) {
+            PicassoDrawable.setBitmap(imageView, this.picasso.context, quickMemoryCacheCheck, Picasso.LoadedFrom.MEMORY, this.noFade, this.picasso.indicatorsEnabled);
+            if (this.picasso.loggingEnabled) {
+                String plainId = request.plainId();
+                Utils.log("Main", "completed", plainId, "from " + Picasso.LoadedFrom.MEMORY);
+            }
+            if (callback != null) {
+                callback.onSuccess();
+                return;
+            }
+            return;
+        }
+        this.picasso.enqueueAndSubmit(new ImageViewAction(this.picasso, imageView, request, this.memoryPolicy, this.networkPolicy, this.errorResId, this.errorDrawable, str, this.tag, callback, this.noFade));
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public Object getTag() {
+        return this.tag;
+    }
+
     private Drawable getPlaceholderDrawable() {
         if (this.placeholderResId != 0) {
             return this.picasso.context.getResources().getDrawable(this.placeholderResId);
@@ -403,8 +581,12 @@ public class RequestCreator {
     }
 
     private Request createRequest(long j) {
+        return createRequest(this.data.build(), j);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public Request createRequest(Request build, long j) {
         int andIncrement = nextId.getAndIncrement();
-        Request build = this.data.build();
         build.id = andIncrement;
         build.started = j;
         boolean z = this.picasso.loggingEnabled;
@@ -22,6 +22,10 @@ public abstract class RequestHandler {
         return false;
     }
 
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void shutdown() {
+    }
+
     /* JADX INFO: Access modifiers changed from: package-private */
     public boolean supportsReplay() {
         return false;
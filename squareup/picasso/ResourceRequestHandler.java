@@ -1,9 +1,15 @@
 package com.squareup.picasso;
 
+import android.content.BroadcastReceiver;
+import android.content.ComponentCallbacks;
 import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.os.Build;
 import com.squareup.picasso.Picasso;
 import com.squareup.picasso.RequestHandler;
 import java.io.IOException;
@@ -11,6 +17,7 @@ import java.io.IOException;
 /* loaded from: classes.dex */
 public class ResourceRequestHandler extends RequestHandler {
     private final Context context;
+    private CacheInvalidator invalidator;
 
     /* JADX INFO: Access modifiers changed from: package-private */
     public ResourceRequestHandler(Context context) {
@@ -27,10 +34,32 @@ public class ResourceRequestHandler extends RequestHandler {
 
     @Override // com.squareup.picasso.RequestHandler
     public RequestHandler.Result load(Request request, int i) throws IOException {
+        if (request.resourceId == 0 && request.uri != null) {
+            registerInvalidatorIfNeeded();
+        }
         Resources resources = Utils.getResources(this.context, request);
         return new RequestHandler.Result(decodeResource(resources, Utils.getResourceId(resources, request), request), Picasso.LoadedFrom.DISK);
     }
 
+    @Override // com.squareup.picasso.RequestHandler
+    public synchronized void shutdown() {
+        CacheInvalidator cacheInvalidator = this.invalidator;
+        if (cacheInvalidator == null) {
+            return;
+        }
+        this.invalidator = null;
+        cacheInvalidator.unregister();
+        Utils.clearResourceCaches();
+    }
+
+    private synchronized void registerInvalidatorIfNeeded() {
+        if (this.invalidator == null) {
+            CacheInvalidator cacheInvalidator = new CacheInvalidator(this.context.getApplicationContext());
+            cacheInvalidator.register();
+            this.invalidator = cacheInvalidator;
+        }
+    }
+
     private static Bitmap decodeResource(Resources resources, int i, Request request) {
         BitmapFactory.Options createBitmapOptions = createBitmapOptions(request);
         if (requiresInSampleSize(createBitmapOptions)) {
@@ -39,4 +68,49 @@ public class ResourceRequestHandler extends RequestHandler {
         }
         return BitmapFactory.decodeResource(resources, i, createBitmapOptions);
     }
+
+    /* loaded from: classes.dex */
+    static final class CacheInvalidator extends BroadcastReceiver implements ComponentCallbacks {
+        private final Context context;
+
+        CacheInvalidator(Context context) {
+            this.context = context;
+        }
+
+        void register() {
+            IntentFilter intentFilter = new IntentFilter();
+            intentFilter.addAction("android.intent.action.PACKAGE_CHANGED");
+            intentFilter.addAction("android.intent.action.PACKAGE_REMOVED");
+            intentFilter.addAction("android.intent.action.PACKAGE_REPLACED");
+            intentFilter.addDataScheme("package");
+            this.context.registerReceiver(this, intentFilter);
+            if (Build.VERSION.SDK_INT >= 14) {
+                this.context.registerComponentCallbacks(this);
+            }
+        }
+
+        void unregister() {
+            try {
+                this.context.unregisterReceiver(this);
+            } catch (IllegalArgumentException unused) {
+            }
+            if (Build.VERSION.SDK_INT >= 14) {
+                this.context.unregisterComponentCallbacks(this);
+            }
+        }
+
+        @Override // android.content.BroadcastReceiver
+        public void onReceive(Context context, Intent intent) {
+            Utils.clearResourceCaches();
+        }
+
+        @Override // android.content.ComponentCallbacks
+        public void onConfigurationChanged(Configuration configuration) {
+            Utils.clearResourceCaches();
+        }
+
+        @Override // android.content.ComponentCallbacks
+        public void onLowMemory() {
+        }
+    }
 }
@@ -5,25 +5,39 @@ import android.os.Handler;
 import android.os.HandlerThread;
 import android.os.Looper;
 import android.os.Message;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 /* JADX INFO: Access modifiers changed from: package-private */
 /* loaded from: classes.dex */
 public class Stats {
+    private static final int ANIMATED_FRAME_CACHE_HIT = 9;
+    private static final int ANIMATED_FRAME_DECODED = 8;
     private static final int BITMAP_DECODE_FINISHED = 2;
     private static final int BITMAP_TRANSFORMED_FINISHED = 3;
     private static final int CACHE_HIT = 0;
     private static final int CACHE_MISS = 1;
+    private static final int DOWNLOAD_CANCELLED = 5;
     private static final int DOWNLOAD_FINISHED = 4;
+    private static final int HOST_DEQUEUED = 7;
+    private static final int HOST_QUEUED = 6;
     private static final String STATS_THREAD_NAME = "Picasso-Stats";
+    long animatedFrameCacheHits;
+    long animatedFramesDecoded;
     long averageDownloadSize;
     long averageOriginalBitmapSize;
     long averageTransformedBitmapSize;
     final Cache cache;
     long cacheHits;
     long cacheMisses;
+    int cancelledDownloadCount;
     int downloadCount;
     final Handler handler;
+    final Map<String, HostCounts> hostCounts;
     int originalBitmapCount;
     final HandlerThread statsThread;
+    long totalCancelledBytesSaved;
     long totalDownloadSize;
     long totalOriginalBitmapSize;
     long totalTransformedBitmapSize;
@@ -32,6 +46,7 @@ public class Stats {
     /* JADX INFO: Access modifiers changed from: package-private */
     public Stats(Cache cache) {
         this.cache = cache;
+        this.hostCounts = new LinkedHashMap();
         HandlerThread handlerThread = new HandlerThread(STATS_THREAD_NAME, 10);
         this.statsThread = handlerThread;
         handlerThread.start();
@@ -55,6 +70,34 @@ public class Stats {
         handler.sendMessage(handler.obtainMessage(4, Long.valueOf(j)));
     }
 
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void dispatchDownloadCancelled(long j) {
+        Handler handler = this.handler;
+        handler.sendMessage(handler.obtainMessage(5, Long.valueOf(j)));
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void dispatchHostQueued(String str, int i) {
+        Handler handler = this.handler;
+        handler.sendMessage(handler.obtainMessage(6, i, 0, str));
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void dispatchHostDequeued(String str, int i, long j) {
+        Handler handler = this.handler;
+        handler.sendMessage(handler.obtainMessage(7, i, (int) Math.min(TimeUnit.NANOSECONDS.toMillis(j), 2147483647L), str));
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void dispatchAnimatedFrameDecoded() {
+        this.handler.sendEmptyMessage(8);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void dispatchAnimatedFrameCacheHit() {
+        this.handler.sendEmptyMessage(9);
+    }
+
     /* JADX INFO: Access modifiers changed from: package-private */
     public void dispatchCacheHit() {
         this.handler.sendEmptyMessage(0);
@@ -78,6 +121,14 @@ public class Stats {
         this.cacheMisses++;
     }
 
+    void performAnimatedFrameDecoded() {
+        this.animatedFramesDecoded++;
+    }
+
+    void performAnimatedFrameCacheHit() {
+        this.animatedFrameCacheHits++;
+    }
+
     void performDownloadFinished(Long l) {
         this.downloadCount++;
         long longValue = this.totalDownloadSize + l.longValue();
@@ -85,6 +136,38 @@ public class Stats {
         this.averageDownloadSize = getAverage(this.downloadCount, longValue);
     }
 
+    void performDownloadCancelled(Long l) {
+        this.cancelledDownloadCount++;
+        this.totalCancelledBytesSaved += l.longValue();
+    }
+
+    void performHostQueued(String str, int i) {
+        synchronized (this.hostCounts) {
+            HostCounts hostCounts = getHostCounts(str);
+            hostCounts.queueDepth = i;
+            hostCounts.maxQueueDepth = Math.max(hostCounts.maxQueueDepth, i);
+            hostCounts.parkedCount++;
+        }
+    }
+
+    void performHostDequeued(String str, int i, long j) {
+        synchronized (this.hostCounts) {
+            HostCounts hostCounts = getHostCounts(str);
+            hostCounts.queueDepth = i;
+            hostCounts.totalWaitTime += j;
+        }
+    }
+
+    private HostCounts getHostCounts(String str) {
+        HostCounts hostCounts = this.hostCounts.get(str);
+        if (hostCounts == null) {
+            HostCounts hostCounts2 = new HostCounts();
+            this.hostCounts.put(str, hostCounts2);
+            return hostCounts2;
+        }
+        return hostCounts;
+    }
+
     void performBitmapDecoded(long j) {
         int i = this.originalBitmapCount + 1;
         this.originalBitmapCount = i;
@@ -102,7 +185,15 @@ public class Stats {
 
     /* JADX INFO: Access modifiers changed from: package-private */
     public StatsSnapshot createSnapshot() {
-        return new StatsSnapshot(this.cache.maxSize(), this.cache.size(), this.cacheHits, this.cacheMisses, this.totalDownloadSize, this.totalOriginalBitmapSize, this.totalTransformedBitmapSize, this.averageDownloadSize, this.averageOriginalBitmapSize, this.averageTransformedBitmapSize, this.downloadCount, this.originalBitmapCount, this.transformedBitmapCount, System.currentTimeMillis());
+        LinkedHashMap linkedHashMap;
+        synchronized (this.hostCounts) {
+            linkedHashMap = new LinkedHashMap(this.hostCounts.size());
+            for (Map.Entry<String, HostCounts> entry : this.hostCounts.entrySet()) {
+                HostCounts value = entry.getValue();
+                linkedHashMap.put(entry.getKey(), new StatsSnapshot.HostStats(entry.getKey(), value.queueDepth, value.maxQueueDepth, value.parkedCount, value.totalWaitTime));
+            }
+        }
+        return new StatsSnapshot(this.cache.maxSize(), this.cache.size(), this.cacheHits, this.cacheMisses, this.totalDownloadSize, this.totalOriginalBitmapSize, this.totalTransformedBitmapSize, this.averageDownloadSize, this.averageOriginalBitmapSize, this.averageTransformedBitmapSize, this.downloadCount, this.originalBitmapCount, this.transformedBitmapCount, this.cancelledDownloadCount, this.totalCancelledBytesSaved, Collections.unmodifiableMap(linkedHashMap), this.animatedFramesDecoded, this.animatedFrameCacheHits, System.currentTimeMillis());
     }
 
     private void processBitmap(Bitmap bitmap, int i) {
@@ -115,6 +206,17 @@ public class Stats {
         return j / i;
     }
 
+    /* loaded from: classes.dex */
+    private static class HostCounts {
+        int maxQueueDepth;
+        int parkedCount;
+        int queueDepth;
+        long totalWaitTime;
+
+        private HostCounts() {
+        }
+    }
+
     /* loaded from: classes.dex */
     private static class StatsHandler extends Handler {
         private final Stats stats;
@@ -137,6 +239,16 @@ public class Stats {
                 this.stats.performBitmapTransformed(message.arg1);
             } else if (i == 4) {
                 this.stats.performDownloadFinished((Long) message.obj);
+            } else if (i == 5) {
+                this.stats.performDownloadCancelled((Long) message.obj);
+            } else if (i == 6) {
+                this.stats.performHostQueued((String) message.obj, message.arg1);
+            } else if (i == 7) {
+                this.stats.performHostDequeued((String) message.obj, message.arg1, message.arg2);
+            } else if (i == 8) {
+                this.stats.performAnimatedFrameDecoded();
+            } else if (i == 9) {
+                this.stats.performAnimatedFrameCacheHit();
             } else {
                 Picasso.HANDLER.post(new Runnable() { // from class: com.squareup.picasso.Stats.StatsHandler.1
                     @Override // java.lang.Runnable
@@ -3,24 +3,36 @@ package com.squareup.picasso;
 import android.util.Log;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Map;
 /* loaded from: classes.dex */
 public class StatsSnapshot {
+    public final long animatedFrameCacheHits;
+    public final long animatedFramesDecoded;
     public final long averageDownloadSize;
     public final long averageOriginalBitmapSize;
     public final long averageTransformedBitmapSize;
     public final long cacheHits;
     public final long cacheMisses;
+    public final int cancelledDownloadCount;
     public final int downloadCount;
+    public final Map<String, HostStats> hostStats;
     public final int maxSize;
     public final int originalBitmapCount;
     public final int size;
     public final long timeStamp;
+    public final long totalCancelledBytesSaved;
     public final long totalDownloadSize;
     public final long totalOriginalBitmapSize;
     public final long totalTransformedBitmapSize;
     public final int transformedBitmapCount;
 
     public StatsSnapshot(int i, int i2, long j, long j2, long j3, long j4, long j5, long j6, long j7, long j8, int i3, int i4, int i5, long j9) {
+        this(i, i2, j, j2, j3, j4, j5, j6, j7, j8, i3, i4, i5, 0, 0L, Collections.<String, HostStats>emptyMap(), 0L, 0L, j9);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public StatsSnapshot(int i, int i2, long j, long j2, long j3, long j4, long j5, long j6, long j7, long j8, int i3, int i4, int i5, int i6, long j9, Map<String, HostStats> map, long j10, long j11, long j12) {
         this.maxSize = i;
         this.size = i2;
         this.cacheHits = j;
@@ -34,7 +46,12 @@ public class StatsSnapshot {
         this.downloadCount = i3;
         this.originalBitmapCount = i4;
         this.transformedBitmapCount = i5;
-        this.timeStamp = j9;
+        this.cancelledDownloadCount = i6;
+        this.totalCancelledBytesSaved = j9;
+        this.hostStats = map;
+        this.animatedFramesDecoded = j10;
+        this.animatedFrameCacheHits = j11;
+        this.timeStamp = j12;
     }
 
     public void dump() {
@@ -63,6 +80,25 @@ public class StatsSnapshot {
         printWriter.println(this.totalDownloadSize);
         printWriter.print("  Average Download Size: ");
         printWriter.println(this.averageDownloadSize);
+        printWriter.print("  Cancelled Downloads: ");
+        printWriter.println(this.cancelledDownloadCount);
+        printWriter.print("  Bytes Saved By Cancellation: ");
+        printWriter.println(this.totalCancelledBytesSaved);
+        if (!this.hostStats.isEmpty()) {
+            printWriter.println("Host Queue Stats");
+            for (HostStats hostStats : this.hostStats.values()) {
+                printWriter.print("  ");
+                printWriter.print(hostStats.host);
+                printWriter.print(": Queue Depth: ");
+                printWriter.print(hostStats.queueDepth);
+                printWriter.print(", Max Queue Depth: ");
+                printWriter.print(hostStats.maxQueueDepth);
+                printWriter.print(", Parked: ");
+                printWriter.print(hostStats.parkedCount);
+                printWriter.print(", Average Wait (ms): ");
+                printWriter.println(hostStats.averageWaitTime);
+            }
+        }
         printWriter.println("Bitmap Stats");
         printWriter.print("  Total Bitmaps Decoded: ");
         printWriter.println(this.originalBitmapCount);
@@ -76,11 +112,39 @@ public class StatsSnapshot {
         printWriter.println(this.averageOriginalBitmapSize);
         printWriter.print("  Average Transformed Bitmap Size: ");
         printWriter.println(this.averageTransformedBitmapSize);
+        printWriter.println("Animation Stats");
+        printWriter.print("  Frames Decoded: ");
+        printWriter.println(this.animatedFramesDecoded);
+        printWriter.print("  Frame Cache Hits: ");
+        printWriter.println(this.animatedFrameCacheHits);
         printWriter.println("===============END PICASSO STATS ===============");
         printWriter.flush();
     }
 
     public String toString() {
-        return "StatsSnapshot{maxSize=" + this.maxSize + ", size=" + this.size + ", cacheHits=" + this.cacheHits + ", cacheMisses=" + this.cacheMisses + ", downloadCount=" + this.downloadCount + ", totalDownloadSize=" + this.totalDownloadSize + ", averageDownloadSize=" + this.averageDownloadSize + ", totalOriginalBitmapSize=" + this.totalOriginalBitmapSize + ", totalTransformedBitmapSize=" + this.totalTransformedBitmapSize + ", averageOriginalBitmapSize=" + this.averageOriginalBitmapSize + ", averageTransformedBitmapSize=" + this.averageTransformedBitmapSize + ", originalBitmapCount=" + this.originalBitmapCount + ", transformedBitmapCount=" + this.transformedBitmapCount + ", timeStamp=" + this.timeStamp + '}';
+        return "StatsSnapshot{maxSize=" + this.maxSize + ", size=" + this.size + ", cacheHits=" + this.cacheHits + ", cacheMisses=" + this.cacheMisses + ", downloadCount=" + this.downloadCount + ", totalDownloadSize=" + this.totalDownloadSize + ", averageDownloadSize=" + this.averageDownloadSize + ", cancelledDownloadCount=" + this.cancelledDownloadCount + ", totalCancelledBytesSaved=" + this.totalCancelledBytesSaved + ", totalOriginalBitmapSize=" + this.totalOriginalBitmapSize + ", totalTransformedBitmapSize=" + this.totalTransformedBitmapSize + ", averageOriginalBitmapSize=" + this.averageOriginalBitmapSize + ", averageTransformedBitmapSize=" + this.averageTransformedBitmapSize + ", originalBitmapCount=" + this.originalBitmapCount + ", transformedBitmapCount=" + this.transformedBitmapCount + ", hostStats=" + this.hostStats.values() + ", animatedFramesDecoded=" + this.animatedFramesDecoded + ", animatedFrameCacheHits=" + this.animatedFrameCacheHits + ", timeStamp=" + this.timeStamp + '}';
+    }
+
+    /* loaded from: classes.dex */
+    public static final class HostStats {
+        public final long averageWaitTime;
+        public final String host;
+        public final int maxQueueDepth;
+        public final int parkedCount;
+        public final int queueDepth;
+        public final long totalWaitTime;
+
+        public HostStats(String str, int i, int i2, int i3, long j) {
+            this.host = str;
+            this.queueDepth = i;
+            this.maxQueueDepth = i2;
+            this.parkedCount = i3;
+            this.totalWaitTime = j;
+            this.averageWaitTime = i3 == 0 ? 0L : j / i3;
+        }
+
+        public String toString() {
+            return "HostStats{host=" + this.host + ", queueDepth=" + this.queueDepth + ", maxQueueDepth=" + this.maxQueueDepth + ", parkedCount=" + this.parkedCount + ", totalWaitTime=" + this.totalWaitTime + '}';
+        }
     }
 }
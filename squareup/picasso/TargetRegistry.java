@@ -0,0 +1,223 @@
+package com.squareup.picasso;
+
+import com.squareup.picasso.RemoteViewsAction;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class TargetRegistry<V> {
+    private static final int MIN_CAPACITY = 16;
+    private static final Object TOMBSTONE = new Object();
+    private Object[] keys = new Object[MIN_CAPACITY];
+    private int size;
+    private final Map<Object, Map<V, Boolean>> tagIndex = new HashMap();
+    private Object[] tags = new Object[MIN_CAPACITY];
+    private int used;
+    private Object[] values = new Object[MIN_CAPACITY];
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public V get(Object obj) {
+        int indexOf;
+        if (obj == null || (indexOf = indexOf(obj)) < 0) {
+            return null;
+        }
+        return (V) this.values[indexOf];
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public V put(Object obj, V v, Object obj2) {
+        if (obj == null) {
+            throw new IllegalArgumentException("Target must not be null.");
+        }
+        int indexOf = indexOf(obj);
+        if (indexOf >= 0) {
+            V v2 = (V) this.values[indexOf];
+            unindex(this.tags[indexOf], v2);
+            this.values[indexOf] = v;
+            this.tags[indexOf] = obj2;
+            index(obj2, v);
+            return v2;
+        }
+        if ((this.used + 1) * 4 > this.keys.length * 3) {
+            rehash();
+        }
+        int length = this.keys.length - 1;
+        int hash = hash(obj) & length;
+        while (true) {
+            Object obj3 = this.keys[hash];
+            if (obj3 == null || obj3 == TOMBSTONE) {
+                break;
+            }
+            hash = (hash + 1) & length;
+        }
+        if (this.keys[hash] == null) {
+            this.used++;
+        }
+        this.keys[hash] = new WeakReference(obj);
+        this.values[hash] = v;
+        this.tags[hash] = obj2;
+        this.size++;
+        index(obj2, v);
+        return null;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public V remove(Object obj) {
+        int indexOf;
+        if (obj == null || (indexOf = indexOf(obj)) < 0) {
+            return null;
+        }
+        V v = (V) this.values[indexOf];
+        removeAt(indexOf);
+        return v;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public List<V> values() {
+        ArrayList arrayList = new ArrayList(this.size);
+        int length = this.keys.length;
+        for (int i = 0; i < length; i++) {
+            Object obj = this.keys[i];
+            if (obj != null && obj != TOMBSTONE) {
+                if (((WeakReference) obj).get() == null) {
+                    removeAt(i);
+                } else {
+                    arrayList.add(this.values[i]);
+                }
+            }
+        }
+        return arrayList;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public List<V> valuesForTag(Object obj) {
+        Map<V, Boolean> map = this.tagIndex.get(obj);
+        if (map == null) {
+            return new ArrayList(0);
+        }
+        return new ArrayList(map.keySet());
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void expungeStale() {
+        int length = this.keys.length;
+        for (int i = 0; i < length; i++) {
+            Object obj = this.keys[i];
+            if (obj != null && obj != TOMBSTONE && ((WeakReference) obj).get() == null) {
+                removeAt(i);
+            }
+        }
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void clear() {
+        Arrays.fill(this.keys, (Object) null);
+        Arrays.fill(this.values, (Object) null);
+        Arrays.fill(this.tags, (Object) null);
+        this.tagIndex.clear();
+        this.size = 0;
+        this.used = 0;
+    }
+
+    private int indexOf(Object obj) {
+        int length = this.keys.length - 1;
+        int hash = hash(obj) & length;
+        while (true) {
+            Object obj2 = this.keys[hash];
+            if (obj2 == null) {
+                return -1;
+            }
+            if (obj2 != TOMBSTONE) {
+                Object obj3 = ((WeakReference) obj2).get();
+                if (obj3 == null) {
+                    removeAt(hash);
+                } else if (obj3 == obj || (isEqualityKeyed(obj) && obj.equals(obj3))) {
+                    return hash;
+                }
+            }
+            hash = (hash + 1) & length;
+        }
+    }
+
+    private void removeAt(int i) {
+        unindex(this.tags[i], this.values[i]);
+        this.keys[i] = TOMBSTONE;
+        this.values[i] = null;
+        this.tags[i] = null;
+        this.size--;
+    }
+
+    private void rehash() {
+        Object[] objArr = this.keys;
+        Object[] objArr2 = this.values;
+        Object[] objArr3 = this.tags;
+        int i = MIN_CAPACITY;
+        while (i * 3 < (this.size + 1) * 8) {
+            i <<= 1;
+        }
+        this.keys = new Object[i];
+        this.values = new Object[i];
+        this.tags = new Object[i];
+        this.size = 0;
+        this.used = 0;
+        int i2 = i - 1;
+        int length = objArr.length;
+        for (int i3 = 0; i3 < length; i3++) {
+            Object obj = objArr[i3];
+            if (obj != null && obj != TOMBSTONE) {
+                Object obj2 = ((WeakReference) obj).get();
+                if (obj2 == null) {
+                    unindex(objArr3[i3], objArr2[i3]);
+                } else {
+                    int hash = hash(obj2) & i2;
+                    while (this.keys[hash] != null) {
+                        hash = (hash + 1) & i2;
+                    }
+                    this.keys[hash] = obj;
+                    this.values[hash] = objArr2[i3];
+                    this.tags[hash] = objArr3[i3];
+                    this.size++;
+                    this.used++;
+                }
+            }
+        }
+    }
+
+    private void index(Object obj, V v) {
+        if (obj == null) {
+            return;
+        }
+        Map<V, Boolean> map = this.tagIndex.get(obj);
+        if (map == null) {
+            map = new IdentityHashMap<>();
+            this.tagIndex.put(obj, map);
+        }
+        map.put(v, Boolean.TRUE);
+    }
+
+    private void unindex(Object obj, Object obj2) {
+        Map<V, Boolean> map;
+        if (obj == null || (map = this.tagIndex.get(obj)) == null) {
+            return;
+        }
+        map.remove(obj2);
+        if (map.isEmpty()) {
+            this.tagIndex.remove(obj);
+        }
+    }
+
+    private static boolean isEqualityKeyed(Object obj) {
+        return obj instanceof RemoteViewsAction.RemoteViewsTarget;
+    }
+
+    private static int hash(Object obj) {
+        int hashCode = isEqualityKeyed(obj) ? obj.hashCode() : System.identityHashCode(obj);
+        int i = hashCode * -1640531527;
+        return i ^ (i >>> 16);
+    }
+}
@@ -0,0 +1,136 @@
+package com.squareup.picasso;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+/* JADX INFO: Access modifiers changed from: package-private */
+/* loaded from: classes.dex */
+public final class ThumbnailDiskCache {
+    private static final int COMPRESS_QUALITY = 90;
+    private static final long DEFAULT_MAX_SIZE = 20971520;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String THUMBNAIL_CACHE = "picasso-thumbnails";
+    private final File directory;
+    private boolean initialized;
+    private final long maxSize;
+    private long size;
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public ThumbnailDiskCache(Context context) {
+        this(new File(context.getApplicationContext().getCacheDir(), THUMBNAIL_CACHE), DEFAULT_MAX_SIZE);
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public ThumbnailDiskCache(File file, long j) {
+        this.directory = file;
+        this.maxSize = j;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public File get(String str) {
+        File file = new File(this.directory, str);
+        if (!file.exists()) {
+            return null;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        return file;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public void put(String str, Bitmap bitmap) {
+        if (!this.directory.exists() && !this.directory.mkdirs()) {
+            return;
+        }
+        synchronized (this) {
+            initializeIfNeeded();
+        }
+        File file = null;
+        FileOutputStream fileOutputStream = null;
+        try {
+            file = File.createTempFile(str, TEMP_SUFFIX, this.directory);
+            fileOutputStream = new FileOutputStream(file);
+            boolean compress = bitmap.compress(bitmap.hasAlpha() ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG, COMPRESS_QUALITY, fileOutputStream);
+            fileOutputStream.close();
+            fileOutputStream = null;
+            if (!compress) {
+                file.delete();
+            } else {
+                commit(file, new File(this.directory, str));
+            }
+        } catch (IOException unused) {
+            if (file != null) {
+                file.delete();
+            }
+        } finally {
+            if (fileOutputStream != null) {
+                try {
+                    fileOutputStream.close();
+                } catch (IOException unused2) {
+                }
+            }
+        }
+    }
+
+    private synchronized void commit(File file, File file2) {
+        long length = file2.length();
+        if (!file.renameTo(file2)) {
+            file.delete();
+            return;
+        }
+        this.size += file2.length() - length;
+        if (this.size > this.maxSize) {
+            trimToSize();
+        }
+    }
+
+    private void initializeIfNeeded() {
+        if (this.initialized) {
+            return;
+        }
+        this.initialized = true;
+        File[] listFiles = this.directory.listFiles();
+        if (listFiles == null) {
+            return;
+        }
+        for (File file : listFiles) {
+            if (file.getName().endsWith(TEMP_SUFFIX)) {
+                file.delete();
+            } else {
+                this.size += file.length();
+            }
+        }
+    }
+
+    private void trimToSize() {
+        File[] listFiles = this.directory.listFiles();
+        if (listFiles == null) {
+            return;
+        }
+        Arrays.sort(listFiles, new Comparator<File>() { // from class: com.squareup.picasso.ThumbnailDiskCache.1
+            @Override // java.util.Comparator
+            public int compare(File file2, File file3) {
+                long lastModified = file2.lastModified();
+                long lastModified2 = file3.lastModified();
+                if (lastModified < lastModified2) {
+                    return -1;
+                }
+                return lastModified == lastModified2 ? 0 : 1;
+            }
+        });
+        for (File file2 : listFiles) {
+            if (this.size <= this.maxSize) {
+                return;
+            }
+            if (!file2.getName().endsWith(TEMP_SUFFIX)) {
+                long length = file2.length();
+                if (file2.delete()) {
+                    this.size -= length;
+                }
+            }
+        }
+    }
+}
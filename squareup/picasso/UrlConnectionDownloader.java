@@ -9,9 +9,11 @@ import java.io.File;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.Locale;
 /* loaded from: classes.dex */
 public class UrlConnectionDownloader implements Downloader {
     private static final String FORCE_CACHE = "only-if-cached,max-age=2147483647";
+    private static final String MAX_AGE = "max-age=";
     static final String RESPONSE_SOURCE = "X-Android-Response-Source";
     static volatile Object cache;
     private final Context context;
@@ -67,7 +69,40 @@ public class UrlConnectionDownloader implements Downloader {
             openConnection.disconnect();
             throw new Downloader.ResponseException(responseCode + " " + openConnection.getResponseMessage(), i, responseCode);
         }
-        return new Downloader.Response(openConnection.getInputStream(), Utils.parseResponseSourceHeader(openConnection.getHeaderField(RESPONSE_SOURCE)), openConnection.getHeaderFieldInt("Content-Length", -1));
+        Downloader.Response response = new Downloader.Response(openConnection.getInputStream(), Utils.parseResponseSourceHeader(openConnection.getHeaderField(RESPONSE_SOURCE)), openConnection.getHeaderFieldInt("Content-Length", -1));
+        response.freshUntil = freshUntil(openConnection);
+        return response;
+    }
+
+    static long freshUntil(HttpURLConnection httpURLConnection) {
+        String headerField = httpURLConnection.getHeaderField("Cache-Control");
+        if (headerField != null) {
+            String lowerCase = headerField.toLowerCase(Locale.US);
+            if (lowerCase.contains("no-store") || lowerCase.contains("no-cache")) {
+                return 0L;
+            }
+            int indexOf = lowerCase.indexOf(MAX_AGE);
+            if (indexOf != -1) {
+                int length = indexOf + MAX_AGE.length();
+                int i = length;
+                while (i < lowerCase.length() && Character.isDigit(lowerCase.charAt(i))) {
+                    i++;
+                }
+                if (i > length) {
+                    try {
+                        long parseLong = Long.parseLong(lowerCase.substring(length, i)) - Math.max(0, httpURLConnection.getHeaderFieldInt("Age", 0));
+                        return System.currentTimeMillis() + (Math.max(0L, parseLong) * 1000);
+                    } catch (NumberFormatException unused) {
+                        return 0L;
+                    }
+                }
+            }
+        }
+        long expiration = httpURLConnection.getExpiration();
+        if (expiration > 0) {
+            return expiration;
+        }
+        return -1L;
     }
 
     @Override // com.squareup.picasso.Downloader
@@ -18,7 +18,9 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadFactory;
 /* JADX INFO: Access modifiers changed from: package-private */
 /* loaded from: classes.dex */
@@ -34,7 +36,21 @@ public final class Utils {
     static final String OWNER_DISPATCHER = "Dispatcher";
     static final String OWNER_HUNTER = "Hunter";
     static final String OWNER_MAIN = "Main";
+    private static final Map<String, Resources> PACKAGE_RESOURCES_CACHE = new LinkedHashMap<String, Resources>(0, 0.75f, true) { // from class: com.squareup.picasso.Utils.1
+        @Override // java.util.LinkedHashMap
+        protected boolean removeEldestEntry(Map.Entry<String, Resources> entry) {
+            return size() > PACKAGE_RESOURCES_CACHE_SIZE;
+        }
+    };
+    private static final int PACKAGE_RESOURCES_CACHE_SIZE = 8;
     private static final String PICASSO_CACHE = "picasso-cache";
+    private static final Map<String, Integer> RESOURCE_IDENTIFIER_CACHE = new LinkedHashMap<String, Integer>(0, 0.75f, true) { // from class: com.squareup.picasso.Utils.2
+        @Override // java.util.LinkedHashMap
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> entry) {
+            return size() > RESOURCE_IDENTIFIER_CACHE_SIZE;
+        }
+    };
+    private static final int RESOURCE_IDENTIFIER_CACHE_SIZE = 256;
     static final String THREAD_IDLE_NAME = "Picasso-Idle";
     static final int THREAD_LEAK_CLEANING_MS = 1000;
     static final String THREAD_PREFIX = "Picasso-";
@@ -309,6 +325,16 @@ public final class Utils {
         return inputStream.read(bArr, 0, 12) == 12 && WEBP_FILE_HEADER_RIFF.equals(new String(bArr, 0, 4, "US-ASCII")) && WEBP_FILE_HEADER_WEBP.equals(new String(bArr, 8, 4, "US-ASCII"));
     }
 
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public static boolean isGifFile(byte[] bArr) {
+        return bArr.length >= 6 && bArr[0] == 71 && bArr[1] == 73 && bArr[2] == 70 && bArr[3] == 56;
+    }
+
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public static boolean isAnimatedWebPFile(byte[] bArr) {
+        return bArr.length > 20 && bArr[0] == 82 && bArr[1] == 73 && bArr[2] == 70 && bArr[3] == 70 && bArr[8] == 87 && bArr[9] == 69 && bArr[10] == 66 && bArr[11] == 80 && bArr[12] == 86 && bArr[13] == 80 && bArr[14] == 56 && bArr[15] == 88 && (bArr[20] & 2) != 0;
+    }
+
     /* JADX INFO: Access modifiers changed from: package-private */
     public static int getResourceId(Resources resources, Request request) throws FileNotFoundException {
         if (request.resourceId != 0 || request.uri == null) {
@@ -328,7 +354,20 @@ public final class Utils {
                 throw new FileNotFoundException("Last path segment is not a resource ID: " + request.uri);
             }
         } else if (pathSegments.size() == 2) {
-            return resources.getIdentifier(pathSegments.get(1), pathSegments.get(0), authority);
+            String str = authority + ':' + pathSegments.get(0) + '/' + pathSegments.get(1);
+            synchronized (RESOURCE_IDENTIFIER_CACHE) {
+                Integer num = RESOURCE_IDENTIFIER_CACHE.get(str);
+                if (num != null) {
+                    return num.intValue();
+                }
+            }
+            int identifier = resources.getIdentifier(pathSegments.get(1), pathSegments.get(0), authority);
+            if (identifier != 0) {
+                synchronized (RESOURCE_IDENTIFIER_CACHE) {
+                    RESOURCE_IDENTIFIER_CACHE.put(str, Integer.valueOf(identifier));
+                }
+            }
+            return identifier;
         } else {
             throw new FileNotFoundException("More than two path segments: " + request.uri);
         }
@@ -343,16 +382,36 @@ public final class Utils {
         if (authority == null) {
             throw new FileNotFoundException("No package provided: " + request.uri);
         }
+        synchronized (PACKAGE_RESOURCES_CACHE) {
+            Resources resources = PACKAGE_RESOURCES_CACHE.get(authority);
+            if (resources != null) {
+                return resources;
+            }
+        }
         try {
-            return context.getPackageManager().getResourcesForApplication(authority);
+            Resources resourcesForApplication = context.getPackageManager().getResourcesForApplication(authority);
+            synchronized (PACKAGE_RESOURCES_CACHE) {
+                PACKAGE_RESOURCES_CACHE.put(authority, resourcesForApplication);
+            }
+            return resourcesForApplication;
         } catch (PackageManager.NameNotFoundException unused) {
             throw new FileNotFoundException("Unable to obtain resources for package: " + request.uri);
         }
     }
 
+    /* JADX INFO: Access modifiers changed from: package-private */
+    public static void clearResourceCaches() {
+        synchronized (PACKAGE_RESOURCES_CACHE) {
+            PACKAGE_RESOURCES_CACHE.clear();
+        }
+        synchronized (RESOURCE_IDENTIFIER_CACHE) {
+            RESOURCE_IDENTIFIER_CACHE.clear();
+        }
+    }
+
     /* JADX INFO: Access modifiers changed from: package-private */
     public static void flushStackLocalLeaks(Looper looper) {
-        Handler handler = new Handler(looper) { // from class: com.squareup.picasso.Utils.1
+        Handler handler = new Handler(looper) { // from class: com.squareup.picasso.Utils.3
             @Override // android.os.Handler
             public void handleMessage(Message message) {
                 sendMessageDelayed(obtainMessage(), 1000L);